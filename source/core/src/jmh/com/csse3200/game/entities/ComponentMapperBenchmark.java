@@ -0,0 +1,65 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.enemy.WaypointTrackerComponent;
+import com.csse3200.game.components.enemy.abilities.CloakComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares getting components by class with {@link Entity#getComponent(Class)} against a {@link
+ * ComponentMapper}, using the lookups an enemy makes when it is hit and when it moves on to its
+ * next waypoint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComponentMapperBenchmark {
+  private static final int ENTITY_COUNT = 256;
+
+  private final ComponentMapper<CloakComponent> cloakMapper =
+      ComponentMapper.getFor(CloakComponent.class);
+  private final ComponentMapper<WaypointTrackerComponent> trackerMapper =
+      ComponentMapper.getFor(WaypointTrackerComponent.class);
+  private final ComponentMapper<PhysicsMovementComponent> movementMapper =
+      ComponentMapper.getFor(PhysicsMovementComponent.class);
+
+  private Entity[] entities;
+
+  @Setup
+  public void setUp() {
+    entities = new Entity[ENTITY_COUNT];
+    for (int i = 0; i < ENTITY_COUNT; i++) {
+      entities[i] =
+          new Entity()
+              .addComponent(new CombatStatsComponent(100, 10, 1))
+              .addComponent(new PhysicsMovementComponent());
+    }
+  }
+
+  @Benchmark
+  public void getComponent(Blackhole blackhole) {
+    for (Entity entity : entities) {
+      blackhole.consume(entity.getComponent(CloakComponent.class));
+      blackhole.consume(entity.getComponent(WaypointTrackerComponent.class));
+      blackhole.consume(entity.getComponent(PhysicsMovementComponent.class));
+    }
+  }
+
+  @Benchmark
+  public void componentMapper(Blackhole blackhole) {
+    for (Entity entity : entities) {
+      blackhole.consume(cloakMapper.get(entity));
+      blackhole.consume(trackerMapper.get(entity));
+      blackhole.consume(movementMapper.get(entity));
+    }
+  }
+}
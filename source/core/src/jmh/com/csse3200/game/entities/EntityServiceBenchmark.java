@@ -0,0 +1,54 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.Component;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures unregistering every entity in a full entity service, as happens when a swarm of enemies
+ * dies in the same frame. Entities are unregistered in registration order, which was the worst
+ * case for a linear search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+public class EntityServiceBenchmark {
+  @Param({"10000"})
+  private int entityCount;
+
+  private EntityService entityService;
+  private Entity[] entities;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    entityService = new EntityService(true);
+    entities = new Entity[entityCount];
+    for (int i = 0; i < entityCount; i++) {
+      entities[i] = new Entity().addComponent(new EnemyLikeComponent());
+      entityService.register(entities[i]);
+    }
+  }
+
+  @Benchmark
+  public EntityService unregisterAll() {
+    for (Entity entity : entities) {
+      entityService.unregister(entity);
+    }
+    return entityService;
+  }
+
+  /** Stand-in for the components on an enemy, so the component index is exercised too */
+  public static class EnemyLikeComponent extends Component {}
+}
@@ -0,0 +1,88 @@
+package com.csse3200.game.events;
+
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.events.listeners.IntEventListener;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares triggering events on the previous string-keyed event handler against the current one,
+ * by name, by {@link EventKey} and by {@link IntEventKey}. Each handler has the same spread of
+ * events as an enemy, with two listeners on the health event and none on the position event, and
+ * both are triggered as on every hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventHandlerBenchmark {
+  private static final String HEALTH = "benchmarkHealth";
+  private static final String POSITION = "benchmarkPosition";
+  private static final String[] OTHER_EVENTS = {
+    "benchmarkCollisionStart", "benchmarkCollisionEnd", "benchmarkFinishedChase", "benchmarkClicked"
+  };
+  private static final EventKey<Integer> HEALTH_KEY = EventKey.of(HEALTH);
+  private static final EventKey<Integer> POSITION_KEY = EventKey.of(POSITION);
+  private static final IntEventKey HEALTH_INT_KEY = IntEventKey.of(HEALTH);
+  private static final IntEventKey POSITION_INT_KEY = IntEventKey.of(POSITION);
+
+  private StringEventHandler previous;
+  private EventHandler current;
+  private EventHandler currentPrimitive;
+  private Blackhole blackhole;
+  private int health;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    this.blackhole = blackhole;
+    previous = new StringEventHandler();
+    current = new EventHandler();
+    currentPrimitive = new EventHandler();
+    EventListener1<Integer> listener = value -> this.blackhole.consume(value);
+    IntEventListener intListener = value -> this.blackhole.consume(value);
+    for (String event : OTHER_EVENTS) {
+      previous.addListener(event, listener);
+      current.addListener(event, listener);
+      currentPrimitive.addListener(IntEventKey.of(event), intListener);
+    }
+    for (int i = 0; i < 2; i++) {
+      previous.addListener(HEALTH, listener);
+      current.addListener(HEALTH_KEY, listener);
+      currentPrimitive.addListener(HEALTH_INT_KEY, intListener);
+    }
+  }
+
+  @Benchmark
+  public void previousByName() {
+    health++;
+    previous.trigger(HEALTH, health);
+    previous.trigger(POSITION, health);
+  }
+
+  @Benchmark
+  public void currentByName() {
+    health++;
+    current.trigger(HEALTH, health);
+    current.trigger(POSITION, health);
+  }
+
+  @Benchmark
+  public void currentByKey() {
+    health++;
+    current.trigger(HEALTH_KEY, health);
+    current.trigger(POSITION_KEY, health);
+  }
+
+  @Benchmark
+  public void currentByIntKey() {
+    health++;
+    currentPrimitive.trigger(HEALTH_INT_KEY, health);
+    currentPrimitive.trigger(POSITION_INT_KEY, health);
+  }
+}
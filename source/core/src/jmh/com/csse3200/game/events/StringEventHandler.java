@@ -0,0 +1,44 @@
+package com.csse3200.game.events;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.events.listeners.EventListener;
+import com.csse3200.game.events.listeners.EventListener1;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The previous {@link EventHandler}, kept as a baseline for {@link EventHandlerBenchmark}.
+ * Listeners are looked up by name in a HashMap and each trigger captures its argument in a new
+ * lambda.
+ */
+class StringEventHandler {
+  private static final Logger logger = LoggerFactory.getLogger(StringEventHandler.class);
+  private final Map<String, Array<EventListener>> listeners = new HashMap<>(0);
+
+  <T> void addListener(String eventName, EventListener1<T> listener) {
+    logger.debug("Adding listener {} to event {}", listener, eventName);
+    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+    if (eventListeners == null) {
+      eventListeners = new Array<>(1);
+      listeners.put(eventName, eventListeners);
+    }
+    eventListeners.add(listener);
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> void trigger(String eventName, T arg0) {
+    logger.debug("Triggering event {}", eventName);
+    forEachListener(
+        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+  }
+
+  private void forEachListener(String eventName, Consumer<EventListener> func) {
+    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+    if (eventListeners != null) {
+      eventListeners.forEach(func);
+    }
+  }
+}
@@ -1,7 +1,8 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.components.Component;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,13 +13,37 @@ import org.slf4j.LoggerFactory;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>The current task is updated every frame, but priorities can be re-evaluated less often when
+ * there are many AI entities, see {@link #AITaskComponent(int)}.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
+  /** Spreads AI with the same re-evaluation interval evenly across frames */
+  private static int nextStagger = 0;
+
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
+  private final int reevaluateInterval;
+  private int framesUntilReevaluate;
   private PriorityTask currentTask;
 
+  /** Create an AI which re-evaluates task priorities every frame. */
+  public AITaskComponent() {
+    this(EVERY_FRAME);
+  }
+
+  /**
+   * Create an AI which re-evaluates task priorities every few frames. Priorities are still
+   * re-evaluated straight away when a task is added or the current task's priority drops below 0.
+   *
+   * @param reevaluateInterval frames between re-evaluating priorities
+   */
+  public AITaskComponent(int reevaluateInterval) {
+    this.reevaluateInterval = Math.max(EVERY_FRAME, reevaluateInterval);
+    this.framesUntilReevaluate = 1 + Math.floorMod(nextStagger++, this.reevaluateInterval);
+  }
+
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
    * priority, and can be stopped to run a higher priority task.
@@ -30,6 +55,7 @@ public class AITaskComponent extends Component implements TaskRunner {
     logger.debug("{} Adding task {}", this, task);
     priorityTasks.add(task);
     task.create(this);
+    framesUntilReevaluate = 0;
 
     return this;
   }
@@ -40,30 +66,51 @@ public class AITaskComponent extends Component implements TaskRunner {
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
-      return;
-    }
+    if (--framesUntilReevaluate <= 0 || currentTask == null || currentTask.getPriority() < 0) {
+      framesUntilReevaluate = reevaluateInterval;
+      PriorityTask desiredtask = getHighestPriorityTask();
+      if (desiredtask == null || desiredtask.getPriority() < 0) {
+        return;
+      }
 
-    if (desiredtask != currentTask) {
-      changeTask(desiredtask);
+      if (desiredtask != currentTask) {
+        changeTask(desiredtask);
+      }
     }
     currentTask.update();
   }
 
+  /** Stop the current task and remove all tasks. New tasks should be added before reuse. */
+  @Override
+  public void reset() {
+    if (currentTask != null) {
+      currentTask.stop();
+      currentTask = null;
+    }
+    priorityTasks.clear();
+    framesUntilReevaluate = 0;
+  }
+
   @Override
   public void dispose() {
     if (currentTask != null) {
       currentTask.stop();
     }
+    super.dispose();
   }
 
   private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
+    PriorityTask highest = null;
+    int highestPriority = Integer.MIN_VALUE;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      PriorityTask task = priorityTasks.get(i);
+      int priority = task.getPriority();
+      if (highest == null || priority > highestPriority) {
+        highest = task;
+        highestPriority = priority;
+      }
     }
+    return highest;
   }
 
   private void changeTask(PriorityTask desiredTask) {
@@ -3,23 +3,25 @@ package com.csse3200.game.areas;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.areas.terrain.TerrainFactory.TerrainType;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.gamearea.GameAreaDisplay;
 import com.csse3200.game.components.player.InventoryComponent;
-import com.csse3200.game.components.towers.DeselectHandlerComponent;
+import com.csse3200.game.components.towers.TowerSelectionComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
 import com.csse3200.game.entities.configs.TowerConfig;
 import com.csse3200.game.entities.factories.EnemyFactory;
 import com.csse3200.game.entities.factories.EnemyFactory.EnemyType;
+import com.csse3200.game.entities.factories.EnemyPool;
 import com.csse3200.game.entities.factories.PlayerFactory;
 import com.csse3200.game.entities.factories.TowerFactory;
 import com.csse3200.game.entities.factories.TowerFactory.TowerType;
 import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.events.listeners.EventListener3;
+import com.csse3200.game.services.GameScheduler;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.TowerActionsUI;
@@ -38,15 +40,19 @@ public class ForestGameArea extends GameArea {
 
   private List<Wave> waves;
   private int waveEnemiesKilled = 0;
-  private int additionalEnemiesSpawned = 0;
+  private boolean waveFullySpawned = false;
   private Wave currentWave;
   private int currentWaveIndex = 0;
 
-  private Timer.Task spawnTask;
-  private Timer.Task waveCompletionCheckTask;
-  private Timer.Task nextWaveTask;
+  private int enemiesSpawned = 0;
+
+  private final GameScheduler.Task spawnTask = new GameScheduler.Task(this::spawnNextEnemy);
+  private final GameScheduler.Task waveCompletionCheckTask =
+      new GameScheduler.Task(this::checkWaveCompletion);
+  private final GameScheduler.Task nextWaveTask = new GameScheduler.Task(this::startNextWave);
 
   private final EventHandler events;
+  private final EnemyPool enemyPool = new EnemyPool();
 
   private static java.util.List<Entity> waypointEntityList = new java.util.ArrayList<>();
   private static java.util.List<GridPoint2> waypointsGridPointList = new java.util.ArrayList<>();
@@ -55,6 +61,10 @@ public class ForestGameArea extends GameArea {
   private TowerType selectedTowerType = TowerType.MACHINEGUN;
 
   private static final Logger logger = LoggerFactory.getLogger(ForestGameArea.class);
+  private static final String EVT_CHECK_WAVE = "checkWaveCompletion";
+
+  /** Triggered on the game area events when the final wave has been cleared */
+  public static final String EVT_ALL_WAVES_COMPLETE = "allWavesComplete";
   private static final GridPoint2 PLAYER_SPAWN = new GridPoint2(10, 10);
 
   private static final String[] forestTextures = {
@@ -96,10 +106,16 @@ public class ForestGameArea extends GameArea {
   public void create() {
     towerPlacementList.clear();
     ServiceLocator.registerGameAreaEvents(this.getEvents());
+    // Game area events are flushed once per frame, so a burst of kills refreshes the gold display
+    // and reschedules the wave completion check once rather than once per kill
+    this.getEvents().setQueued(true);
+    this.getEvents().setCoalescing("updateGold");
+    this.getEvents().setCoalescing(EVT_CHECK_WAVE);
+    this.getEvents().addListener(EVT_CHECK_WAVE, this::scheduleWaveCompletionCheck);
     ServiceLocator.getGameAreaEvents()
         .addListener("sellTower", (EventListener1<Entity>) this::removeTower);
     ServiceLocator.getGameAreaEvents()
-        .addListener("enemyreachedbase", (EventListener1<Integer>) this::damagebase);
+        .addListener(EnemyFactory.EVT_ENEMY_REACHED_BASE, this::damagebase);
 
     ServiceLocator.getGameAreaEvents()
         .addListener(
@@ -111,8 +127,7 @@ public class ForestGameArea extends GameArea {
             "spawnAlphaEnemies",
             (EventListener3<Integer, Vector2, Integer>) this::spawnAlphaEnemies);
 
-    this.getEvents()
-        .addListener("enemyKilled", (EventListener1<Integer>) (gold) -> checkEnemyKills(gold));
+    this.getEvents().addListener(EnemyFactory.EVT_ENEMY_KILLED, this::checkEnemyKills);
     this.getEvents()
         .addListener(
             "towerPlacementClick",
@@ -135,7 +150,7 @@ public class ForestGameArea extends GameArea {
     displayUI();
   }
 
-  private void damagebase(Integer damage) {
+  private void damagebase(int damage) {
     playerRef.getComponent(CombatStatsComponent.class).addHealth(damage * -1);
 
     if (playerRef.getComponent(CombatStatsComponent.class).getHealth() <= 0) {
@@ -193,14 +208,13 @@ public class ForestGameArea extends GameArea {
       float offsetY = (float) (Math.sin(angle) * radius);
 
       Entity enemy =
-          EnemyFactory.createEnemy(enemyType, getWaypointEntityList(), waypointIndex);
+          EnemyFactory.createEnemy(enemyType, getWaypointEntityList(), waypointIndex, enemyPool);
 
       // Use floating-point position directly instead of converting to GridPoint2
       Vector2 spawnPos = new Vector2(position.x + offsetX, position.y + offsetY);
-      spawnEntity(enemy);
       enemy.setPosition(spawnPos);
+      spawnPooledEntity(enemy);
     }
-    additionalEnemiesSpawned += count;
   }
 
   /**
@@ -269,30 +283,30 @@ public class ForestGameArea extends GameArea {
   private void startWaveSpawning() {
     currentWaveIndex = 0;
     currentWave = waves.get(currentWaveIndex);
-    final int[] enemiesSpawned = {0};
-
-    spawnTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                // Safety check before doing anything
-                if (ServiceLocator.getPhysicsService() == null) {
-                  this.cancel();
-                  return;
-                }
-                if (enemiesSpawned[0] < currentWave.getTotalEnemies()) {
-                  spawnEnemy();
-                  enemiesSpawned[0]++;
-                } else {
-                  // Stop the timer when all enemies are spawned
-                  this.cancel();
-                  spawnTask = null;
-                }
-              }
-            },
-            0,
-            currentWave.getSpawnRate());
+    waveFullySpawned = false;
+    startSpawning();
+  }
+
+  /** Spawn the current wave's enemies one at a time, at the wave's spawn rate */
+  private void startSpawning() {
+    enemiesSpawned = 0;
+    ServiceLocator.getScheduler().scheduleRepeating(spawnTask, 0f, currentWave.getSpawnRate());
+  }
+
+  private void spawnNextEnemy() {
+    // Safety check before doing anything
+    if (ServiceLocator.getPhysicsService() == null) {
+      spawnTask.cancel();
+      return;
+    }
+    if (enemiesSpawned < currentWave.getTotalEnemies()) {
+      spawnEnemy();
+      enemiesSpawned++;
+      waveFullySpawned = enemiesSpawned == currentWave.getTotalEnemies();
+    } else {
+      // Stop the timer when all enemies are spawned
+      spawnTask.cancel();
+    }
   }
 
   public void checkEnemyKills(int gold) {
@@ -302,55 +316,34 @@ public class ForestGameArea extends GameArea {
     inventory.addGold(gold);
 
     ServiceLocator.getGameAreaEvents().trigger("updateGold");
+    ServiceLocator.getGameAreaEvents().trigger(EVT_CHECK_WAVE);
+  }
 
-    // Cancel previous completion check if one exists
-    if (waveCompletionCheckTask != null) {
-      waveCompletionCheckTask.cancel();
-    }
-
-    // Defer the wave completion check slightly to allow nursing enemies to spawn children
-    waveCompletionCheckTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                checkWaveCompletion();
-                waveCompletionCheckTask = null;
-              }
-            },
-            0.1f); // 100ms delay
+  private void scheduleWaveCompletionCheck() {
+    // Defer the wave completion check slightly to allow nursing enemies to spawn children. This
+    // replaces any check already scheduled.
+    ServiceLocator.getScheduler().schedule(waveCompletionCheckTask, 0.1f); // 100ms delay
   }
 
   /** Checks if the current wave is complete and starts the next wave if needed. */
   private void checkWaveCompletion() {
-    // Check against total enemies including those spawned by nursing enemies
-    int totalEnemiesInWave = currentWave.getTotalEnemies() + additionalEnemiesSpawned;
+    // Enemies spawned by nursing and alpha enemies are tagged too, so are counted here
+    boolean enemiesRemaining =
+        !ServiceLocator.getEntityService().getEntitiesWithTag(EntityTag.ENEMY).isEmpty();
 
-    if (waveEnemiesKilled >= totalEnemiesInWave) {
+    if (waveFullySpawned && !enemiesRemaining) {
       // All enemies in current wave are dead
       if (currentWaveIndex >= waves.size() - 1) {
         // This is the final wave
         System.out.println("Victory!");
+        ServiceLocator.getGameAreaEvents().trigger(EVT_ALL_WAVES_COMPLETE);
       } else {
         // There are more waves, wait 5 seconds before starting the next one
         System.out.println(
             "Wave " + (currentWaveIndex + 1) + " complete! Next wave in 5 seconds...");
 
-        // Cancel previous next wave timer if one exists
-        if (nextWaveTask != null) {
-          nextWaveTask.cancel();
-        }
-
-        nextWaveTask =
-            Timer.schedule(
-                new Timer.Task() {
-                  @Override
-                  public void run() {
-                    startNextWave();
-                    nextWaveTask = null;
-                  }
-                },
-                5f); // 5 second delay
+        // Replaces the next wave timer if one is already scheduled
+        ServiceLocator.getScheduler().schedule(nextWaveTask, 5f); // 5 second delay
       }
     }
   }
@@ -361,50 +354,26 @@ public class ForestGameArea extends GameArea {
       currentWave = waves.get(currentWaveIndex);
       currentWave.reset();
       waveEnemiesKilled = 0;
-      additionalEnemiesSpawned = 0;
+      waveFullySpawned = false;
 
       System.out.println("Starting wave " + (currentWaveIndex + 1) + "!");
-
-      final int[] enemiesSpawned = {0};
-
-      spawnTask =
-          Timer.schedule(
-              new Timer.Task() {
-                @Override
-                public void run() {
-                  // Safety check before doing anything
-                  if (ServiceLocator.getPhysicsService() == null) {
-                    this.cancel();
-                    return;
-                  }
-                  if (enemiesSpawned[0] < currentWave.getTotalEnemies()) {
-                    spawnEnemy();
-                    enemiesSpawned[0]++;
-                  } else {
-                    // Stop the timer when all enemies are spawned
-                    this.cancel();
-                    spawnTask = null;
-                  }
-                }
-              },
-              0,
-              currentWave.getSpawnRate());
+      startSpawning();
     }
   }
 
   private void displayUI() {
-    Entity ui = new Entity();
+    Entity ui = new Entity().addTag(EntityTag.UI);
     ui.addComponent(new GameAreaDisplay(levelName));
     ui.addComponent(new deckUI(playerRef));
     ui.addComponent(new TowerActionsUI(playerRef));
-    ui.addComponent(new DeselectHandlerComponent());
+    ui.addComponent(new TowerSelectionComponent());
     spawnEntity(ui);
   }
 
   private void spawnTerrain(List<GridPoint2> waypoints) {
     // Background terrain
     terrain = terrainFactory.createTerrain(TerrainType.FOREST_DEMO, waypoints);
-    spawnEntity(new Entity().addComponent(terrain));
+    spawnEntity(new Entity().addTag(EntityTag.TERRAIN).addComponent(terrain));
   }
 
   private void initialiseWaypoints() {
@@ -423,7 +392,7 @@ public class ForestGameArea extends GameArea {
     waypointsGridPointList.add(new GridPoint2(20, 2));
 
     for (GridPoint2 wp : waypointsGridPointList) {
-      Entity waypointEntity = new Entity();
+      Entity waypointEntity = new Entity().addTag(EntityTag.WAYPOINT);
       waypointEntity.setPosition(wp.x, wp.y);
       waypointEntityList.add(waypointEntity);
     }
@@ -499,8 +468,8 @@ public class ForestGameArea extends GameArea {
     EnemyType enemyType = currentWave.getNextEnemy();
 
     if (enemyType != null) {
-      Entity enemy = EnemyFactory.createEnemy(enemyType, getWaypointEntityList());
-      spawnEntityAt(enemy, spawnPos, true, true);
+      Entity enemy = EnemyFactory.createEnemy(enemyType, getWaypointEntityList(), 0, enemyPool);
+      spawnPooledEntityAt(enemy, spawnPos, true, true);
     }
   }
 
@@ -539,20 +508,11 @@ public class ForestGameArea extends GameArea {
     super.dispose();
 
     // Cancel all timer tasks
-    if (spawnTask != null) {
-      spawnTask.cancel();
-      spawnTask = null;
-    }
+    spawnTask.cancel();
+    waveCompletionCheckTask.cancel();
+    nextWaveTask.cancel();
 
-    if (waveCompletionCheckTask != null) {
-      waveCompletionCheckTask.cancel();
-      waveCompletionCheckTask = null;
-    }
-
-    if (nextWaveTask != null) {
-      nextWaveTask.cancel();
-      nextWaveTask = null;
-    }
+    enemyPool.dispose();
 
     ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class).stop();
     this.unloadAssets();
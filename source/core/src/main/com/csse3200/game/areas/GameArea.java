@@ -29,8 +29,11 @@ public abstract class GameArea implements Disposable {
   /** Dispose of all internal entities in the area */
   public void dispose() {
     for (Entity entity : areaEntities) {
-      entity.dispose();
+      if (!entity.isDisposed()) {
+        entity.dispose();
+      }
     }
+    areaEntities.clear();
   }
 
   /**
@@ -39,6 +42,8 @@ public abstract class GameArea implements Disposable {
    * @param entity Entity (not yet registered)
    */
   protected void spawnEntity(Entity entity) {
+    // Drop entities disposed since, e.g. sold towers, so the list doesn't grow forever
+    areaEntities.removeIf(Entity::isDisposed);
     areaEntities.add(entity);
     ServiceLocator.getEntityService().register(entity);
   }
@@ -53,6 +58,35 @@ public abstract class GameArea implements Disposable {
    */
   protected void spawnEntityAt(
       Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
+    moveToTile(entity, tilePos, centerX, centerY);
+    spawnEntity(entity);
+  }
+
+  /**
+   * Spawn an entity from a pool at its current position. Pooled entities are registered but not
+   * tracked by the area, since they are reused rather than disposed with it.
+   *
+   * @param entity Entity (not yet registered, or deactivated)
+   */
+  protected void spawnPooledEntity(Entity entity) {
+    ServiceLocator.getEntityService().register(entity);
+  }
+
+  /**
+   * Spawn an entity from a pool on a given tile. Requires the terrain to be set first.
+   *
+   * @param entity Entity (not yet registered, or deactivated)
+   * @param tilePos tile position to spawn at
+   * @param centerX true to center entity X on the tile, false to align the bottom left corner
+   * @param centerY true to center entity Y on the tile, false to align the bottom left corner
+   */
+  protected void spawnPooledEntityAt(
+      Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
+    moveToTile(entity, tilePos, centerX, centerY);
+    spawnPooledEntity(entity);
+  }
+
+  private void moveToTile(Entity entity, GridPoint2 tilePos, boolean centerX, boolean centerY) {
     Vector2 worldPos = terrain.tileToWorldPosition(tilePos);
     float tileSize = terrain.getTileSize();
 
@@ -64,6 +98,5 @@ public abstract class GameArea implements Disposable {
     }
 
     entity.setPosition(worldPos);
-    spawnEntity(entity);
   }
 }
@@ -20,10 +20,11 @@ public class CameraComponent extends Component {
 
   @Override
   public void update() {
-    Vector2 position = entity.getPosition();
-    if (!lastPosition.epsilonEquals(entity.getPosition())) {
-      camera.position.set(position.x, position.y, 0f);
-      lastPosition = position;
+    float x = entity.getX();
+    float y = entity.getY();
+    if (!lastPosition.epsilonEquals(x, y)) {
+      camera.position.set(x, y, 0f);
+      lastPosition.set(x, y);
       camera.update();
     }
   }
@@ -1,6 +1,8 @@
 package com.csse3200.game.components;
 
 import com.csse3200.game.components.enemy.abilities.CloakComponent;
+import com.csse3200.game.entities.ComponentMapper;
+import com.csse3200.game.events.IntEventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,13 +12,19 @@ import org.slf4j.LoggerFactory;
  * extended for more specific combat needs.
  */
 public class CombatStatsComponent extends Component {
+  /** Triggered with the new health whenever health is set */
+  public static final IntEventKey EVT_UPDATE_HEALTH = IntEventKey.of("updateHealth");
 
   private static final Logger logger = LoggerFactory.getLogger(CombatStatsComponent.class);
+  private static final ComponentMapper<CloakComponent> cloakMapper =
+      ComponentMapper.getFor(CloakComponent.class);
+  private final int startingHealth;
   private int health;
   private int baseAttack;
   private int armourRating;
 
   public CombatStatsComponent(int health, int baseAttack, int armourRating) {
+    this.startingHealth = health;
     setHealth(health);
     setBaseAttack(baseAttack);
     setArmourRating(armourRating);
@@ -52,7 +60,7 @@ public class CombatStatsComponent extends Component {
       this.health = 0;
     }
     if (entity != null) {
-      entity.getEvents().trigger("updateHealth", this.health);
+      entity.getEvents().trigger(EVT_UPDATE_HEALTH, this.health);
     }
   }
 
@@ -100,8 +108,14 @@ public class CombatStatsComponent extends Component {
     }
   }
 
+  /** Restore the health the component was created with. */
+  @Override
+  public void reset() {
+    setHealth(startingHealth);
+  }
+
   public void hit(CombatStatsComponent attacker) {
-    CloakComponent cloak = entity.getComponent(CloakComponent.class);
+    CloakComponent cloak = cloakMapper.get(entity);
     if (cloak != null && cloak.isCloaked()) {
       return; // No damage while cloaked
     }
@@ -1,6 +1,9 @@
 package com.csse3200.game.components;
 
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventSubscription;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,11 +11,30 @@ import org.slf4j.LoggerFactory;
  * Core component class from which all components inherit. Contains logic for creating, updating,
  * and disposing. Components can be attached to an entity to give it specific behaviour. It is
  * unlikely that changes will need to be made here.
+ *
+ * <p>By default update() is called every frame. Components which don't need that can set a longer
+ * update interval, see {@link #setUpdateInterval(int)}.
  */
 public class Component {
   private static final Logger logger = LoggerFactory.getLogger(Component.class);
+
+  /** Update interval of components which update every frame. This is the default. */
+  public static final int EVERY_FRAME = 1;
+
+  /** Update interval of components which only react to events, and are never updated per frame */
+  public static final int EVENT_ONLY = 0;
+
+  /** Spreads components with the same update interval evenly across frames */
+  private static int nextStagger = 0;
+
   protected Entity entity;
   protected boolean enabled = true;
+  private int updateInterval = EVERY_FRAME;
+  private int framesUntilUpdate = 1;
+  private float updateDelta;
+
+  /** Listeners on other entities' or global event handlers, removed when this is disposed */
+  private Array<EventSubscription> subscriptions;
 
   /**
    * Called when the entity is created and registered. Initial logic such as calls to GetComponent
@@ -38,11 +60,50 @@ public class Component {
     // No action by default.
   }
 
-  /** Called when the component is disposed. Dispose of any internal resources here. */
-  public void dispose() {
+  /**
+   * Called when a pooled entity is about to be reused, instead of being disposed and created again.
+   * Restore any state which should not carry over from the entity's previous life, such as health
+   * or timers. The component is disabled while this is called, and is enabled again once the entity
+   * is registered.
+   */
+  public void reset() {
     // No action by default.
   }
 
+  /**
+   * Called when the component is disposed. Dispose of any internal resources here. Subclasses which
+   * override this must call super.dispose(), which removes the listeners passed to {@link
+   * #releaseOnDispose(EventSubscription)}.
+   */
+  public void dispose() {
+    if (subscriptions != null) {
+      for (EventSubscription subscription : subscriptions) {
+        subscription.remove();
+      }
+      subscriptions.clear();
+    }
+  }
+
+  /**
+   * Remove a listener when this component is disposed. Use this for listeners added to event
+   * handlers which outlive the component's entity, such as the game area's, so they don't keep the
+   * component alive and keep being called after it is gone:
+   *
+   * <pre>
+   * releaseOnDispose(ServiceLocator.getGameAreaEvents().addListener("deselectTower", this::hide));
+   * </pre>
+   *
+   * <p>Listeners on the component's own entity don't need this, as they go with the entity.
+   *
+   * @param subscription subscription returned by addListener
+   */
+  protected void releaseOnDispose(EventSubscription subscription) {
+    if (subscriptions == null) {
+      subscriptions = new Array<>(false, 2);
+    }
+    subscriptions.add(subscription);
+  }
+
   /**
    * Set the entity to which this component belongs. This is called by the Entity, and should not be
    * set manually.
@@ -75,6 +136,49 @@ public class Component {
     this.enabled = enabled;
   }
 
+  /**
+   * Set how often update() is called. Components with an interval above one are updated on every
+   * nth frame, with the frames round-robined between components so the cost is spread evenly. Use
+   * {@link #getUpdateDelta()} in update() to get the time passed since the last update.
+   * earlyUpdate() is not affected, and neither are components updated by a ComponentSystem.
+   *
+   * <p>Must be set before the entity is created, e.g. in the constructor.
+   *
+   * @param frames frames between updates, {@link #EVERY_FRAME} or {@link #EVENT_ONLY}
+   */
+  protected void setUpdateInterval(int frames) {
+    updateInterval = Math.max(EVENT_ONLY, frames);
+    framesUntilUpdate = frames > EVERY_FRAME ? 1 + Math.floorMod(nextStagger++, frames) : 1;
+    updateDelta = 0f;
+  }
+
+  /**
+   * @return frames between updates, {@link #EVERY_FRAME} or {@link #EVENT_ONLY}
+   */
+  public int getUpdateInterval() {
+    return updateInterval;
+  }
+
+  /**
+   * Get the time passed since this component's last update. For components updated every frame,
+   * this is the frame's delta time.
+   *
+   * @return time since the last update in seconds
+   */
+  protected float getUpdateDelta() {
+    if (updateInterval > EVERY_FRAME) {
+      return updateDelta;
+    }
+    return ServiceLocator.getTimeSource().getDeltaTime();
+  }
+
+  /**
+   * @return true if the component is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
   /** Used to trigger the component to update itself. This should not need to be called manually. */
   public final void triggerUpdate() {
     if (enabled) {
@@ -82,6 +186,25 @@ public class Component {
     }
   }
 
+  /**
+   * Used to count down to the next update of a component with an update interval above one, then
+   * update it. This should not need to be called manually.
+   *
+   * @param deltaTime time since the last frame in seconds
+   */
+  public final void triggerIntervalUpdate(float deltaTime) {
+    if (!enabled) {
+      return;
+    }
+    updateDelta += deltaTime;
+    if (--framesUntilUpdate > 0) {
+      return;
+    }
+    framesUntilUpdate = updateInterval;
+    update();
+    updateDelta = 0f;
+  }
+
   /**
    * Used to trigger the component to early-update itself. This should not need to be called
    * manually.
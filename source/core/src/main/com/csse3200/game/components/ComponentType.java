@@ -1,22 +1,28 @@
 package com.csse3200.game.components;
 
 import com.badlogic.gdx.utils.ObjectMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
- * runtime, allowing entities to get components by type.
+ * runtime, allowing entities to get components by type. Also records which of the per-frame
+ * methods each type overrides, so entities only call the ones which do something.
  */
 public class ComponentType {
+  private static final Logger logger = LoggerFactory.getLogger(ComponentType.class);
   private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
       new ObjectMap<>();
   private static int nextId = 0;
 
   private final int id;
+  private final boolean hasEarlyUpdate;
+  private final boolean hasUpdate;
 
   public static ComponentType getFrom(Class<? extends Component> type) {
     ComponentType componentType = componentTypes.get(type);
     if (componentType == null) {
-      componentType = new ComponentType();
+      componentType = new ComponentType(type);
       componentTypes.put(type, componentType);
     }
     return componentType;
@@ -26,8 +32,34 @@ public class ComponentType {
     return id;
   }
 
-  private ComponentType() {
+  /**
+   * @return true if the component type overrides {@link Component#earlyUpdate()}
+   */
+  public boolean hasEarlyUpdate() {
+    return hasEarlyUpdate;
+  }
+
+  /**
+   * @return true if the component type overrides {@link Component#update()}
+   */
+  public boolean hasUpdate() {
+    return hasUpdate;
+  }
+
+  private ComponentType(Class<? extends Component> type) {
     id = nextId;
     nextId++;
+    hasEarlyUpdate = overrides(type, "earlyUpdate");
+    hasUpdate = overrides(type, "update");
+  }
+
+  private static boolean overrides(Class<? extends Component> type, String methodName) {
+    try {
+      return type.getMethod(methodName).getDeclaringClass() != Component.class;
+    } catch (NoSuchMethodException | SecurityException e) {
+      logger.error("Could not check whether {} overrides {}", type, methodName, e);
+      // Assume it does, so the method is still called
+      return true;
+    }
   }
 }
@@ -0,0 +1,30 @@
+package com.csse3200.game.components;
+
+/**
+ * Marks a component whose per-frame update can be computed off the main thread. The update is
+ * split in two:
+ *
+ * <ul>
+ *   <li>{@link #computeUpdate(float)} runs on a worker thread, alongside the same method on other
+ *       components. It may read any game state, but must only write to the component's own fields.
+ *       No events, no changes to other components or entities, no services which mutate.
+ *   <li>{@link #applyUpdate()} then runs on the main thread, in a fixed order. Any side effects
+ *       worked out during the compute step, such as damaging a target, happen here.
+ * </ul>
+ *
+ * <p>Components are only updated this way once a {@link
+ * com.csse3200.game.entities.ParallelComponentSystem} for their type is added to the entity
+ * service. Otherwise their regular update() is called as usual, so update() should just compute
+ * then apply.
+ */
+public interface ParallelUpdate {
+  /**
+   * Work out this frame's update without side effects. Called on a worker thread.
+   *
+   * @param deltaTime time since the last frame in seconds
+   */
+  void computeUpdate(float deltaTime);
+
+  /** Apply the side effects of the last computeUpdate(). Called on the main thread. */
+  void applyUpdate();
+}
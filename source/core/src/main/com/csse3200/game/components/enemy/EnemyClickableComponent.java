@@ -8,6 +8,7 @@ import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.services.ServiceLocator;
 
 public class EnemyClickableComponent extends Component {
   private float clickRadius;
@@ -26,7 +27,7 @@ public class EnemyClickableComponent extends Component {
 
   @Override
   public void update() {
-    if (Gdx.input.justTouched()) {
+    if (ServiceLocator.getInputService().isJustTouched()) {
       Vector2 entityPos = entity.getPosition();
       int screenX = Gdx.input.getX();
       int screenY = Gdx.input.getY();
@@ -49,12 +50,11 @@ public class EnemyClickableComponent extends Component {
 
   private Camera getCamera() {
     Renderer renderer = Renderer.getCurrentRenderer();
-    CameraComponent cam = renderer.getCamera();
-
-    if (renderer != null && cam != null) {
-      return cam.getCamera();
+    if (renderer == null || renderer.getCamera() == null) {
+      return null;
     }
-    return null;
+    CameraComponent cam = renderer.getCamera();
+    return cam.getCamera();
   }
 
   public float getClickRadius() {
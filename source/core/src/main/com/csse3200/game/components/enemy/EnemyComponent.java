@@ -1,5 +0,0 @@
-package com.csse3200.game.components.enemy;
-
-import com.csse3200.game.components.Component;
-
-public class EnemyComponent extends Component {}
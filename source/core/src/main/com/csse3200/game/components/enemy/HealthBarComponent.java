@@ -5,7 +5,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.rendering.RenderComponent;
 import org.slf4j.Logger;
@@ -34,6 +33,9 @@ public class HealthBarComponent extends RenderComponent {
   private CombatStatsComponent combatStats;
   private int maxHealth;
   private int currentHealth;
+  /** Updated when health changes, rather than every time the bar is drawn */
+  private float healthPercentage = 1f;
+  private Color healthColor = HEALTH_BAR_FULL;
   private boolean isVisible = true;
   private ShapeRenderer shapeRenderer;
 
@@ -42,16 +44,29 @@ public class HealthBarComponent extends RenderComponent {
   }
 
   public HealthBarComponent(float width, float height, float offsetY) {
+    this(width, height, offsetY, null);
+  }
+
+  /**
+   * @param width bar width in metres
+   * @param height bar height in metres
+   * @param offsetY height of the bar above the entity's center in metres
+   * @param shapeRenderer renderer to draw the bar with, or null to create one when created
+   */
+  public HealthBarComponent(float width, float height, float offsetY, ShapeRenderer shapeRenderer) {
     this.width = width;
     this.height = height;
     this.offsetY = offsetY;
+    this.shapeRenderer = shapeRenderer;
   }
 
   @Override
   public void create() {
     super.create();
 
-    shapeRenderer = new ShapeRenderer();
+    if (shapeRenderer == null) {
+      shapeRenderer = new ShapeRenderer();
+    }
 
     combatStats = entity.getComponent(CombatStatsComponent.class);
     if (combatStats == null) {
@@ -64,11 +79,12 @@ public class HealthBarComponent extends RenderComponent {
 
     setMaxHealth(maxHealth);
 
-    entity.getEvents().addListener("updateHealth", this::onHealthUpdate);
+    entity.getEvents().addListener(CombatStatsComponent.EVT_UPDATE_HEALTH, this::onHealthUpdate);
   }
 
   private void onHealthUpdate(int newHealth) {
     currentHealth = newHealth;
+    updateHealthBar();
   }
 
   public void setVisible(boolean visible) {
@@ -81,6 +97,7 @@ public class HealthBarComponent extends RenderComponent {
 
   public void setMaxHealth(int maxHealth) {
     this.maxHealth = maxHealth;
+    updateHealthBar();
   }
 
   @Override
@@ -89,15 +106,8 @@ public class HealthBarComponent extends RenderComponent {
       return;
     }
 
-    float healthPercentage = Math.max(0f, Math.min(1f, (float) currentHealth / maxHealth));
-
-    Vector2 entityPos = entity.getCenterPosition();
-    if (entityPos == null) {
-      return;
-    }
-
-    float barX = entityPos.x - width / 2f;
-    float barY = entityPos.y + offsetY;
+    float barX = entity.getRenderX() + (entity.getScaleX() - width) / 2f;
+    float barY = entity.getRenderY() + entity.getScaleY() / 2f + offsetY;
 
     batch.end();
 
@@ -110,7 +120,6 @@ public class HealthBarComponent extends RenderComponent {
     shapeRenderer.setColor(HEALTH_BAR_BACKGROUND);
     shapeRenderer.rect(barX, barY, width, height);
 
-    Color healthColor = getHealthColor(healthPercentage);
     shapeRenderer.setColor(healthColor);
     shapeRenderer.rect(barX, barY, width * healthPercentage, height);
 
@@ -119,6 +128,14 @@ public class HealthBarComponent extends RenderComponent {
     batch.begin();
   }
 
+  private void updateHealthBar() {
+    if (maxHealth <= 0) {
+      return;
+    }
+    healthPercentage = Math.max(0f, Math.min(1f, (float) currentHealth / maxHealth));
+    healthColor = getHealthColor(healthPercentage);
+  }
+
   private Color getHealthColor(float percentage) {
     if (percentage > 0.6f) {
       return HEALTH_BAR_FULL;
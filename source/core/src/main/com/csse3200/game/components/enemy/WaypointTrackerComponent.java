@@ -53,6 +53,16 @@ public class WaypointTrackerComponent extends Component {
     return waypoints;
   }
 
+  /**
+   * Sets the list of waypoints to follow, e.g. when a pooled enemy is reused on a different path.
+   * Does not change the current waypoint index.
+   *
+   * @param waypoints List of waypoint entities for the enemy to follow
+   */
+  public void setWaypoints(List<Entity> waypoints) {
+    this.waypoints = waypoints;
+  }
+
   /**
    * Sets the current waypoint index.
    *
@@ -65,6 +75,14 @@ public class WaypointTrackerComponent extends Component {
     }
   }
 
+  /** Go back to the first waypoint. */
+  @Override
+  public void reset() {
+    currentWaypoint = 0;
+    currentPriority = 1;
+    finished = false;
+  }
+
   /** Sets the value of finished. */
   public void setFinished(boolean finished) {
     this.finished = finished;
@@ -1,11 +1,12 @@
 package com.csse3200.game.components.enemy.abilities;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
+import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.enemy.WaypointTrackerComponent;
 import com.csse3200.game.entities.configs.EnemyConfig.AlphaConfig;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.services.GameScheduler;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,8 +19,8 @@ public class AlphaComponent extends Component {
   private static final Logger logger = LoggerFactory.getLogger(AlphaComponent.class);
 
   private final AlphaConfig config;
-  private Timer.Task spawnTask;
-  private Timer.Task pauseTask;
+  private final GameScheduler.Task spawnTask = new GameScheduler.Task(this::endSpawnDelay);
+  private final GameScheduler.Task pauseTask = new GameScheduler.Task(this::endSpawnPause);
   private boolean isAlive = true;
   private boolean isPaused = false;
   private Vector2 originalSpeed;
@@ -39,24 +40,37 @@ public class AlphaComponent extends Component {
     }
 
     // Listen for health updates to detect death
-    entity.getEvents().addListener("updateHealth", this::onHealthUpdate);
+    entity.getEvents().addListener(CombatStatsComponent.EVT_UPDATE_HEALTH, this::onHealthUpdate);
 
     // Start the spawn cycle
     scheduleNextSpawn();
   }
 
+  /** Restart the spawn cycle at normal speed, as if newly spawned. */
+  @Override
+  public void reset() {
+    cancelTasks();
+    isAlive = true;
+    if (isPaused) {
+      resumeMovement();
+    }
+    scheduleNextSpawn();
+  }
+
+  /** Disabled components stop their spawn cycle. */
+  @Override
+  public void setEnabled(boolean enabled) {
+    super.setEnabled(enabled);
+    if (!enabled) {
+      cancelTasks();
+    }
+  }
+
   /** Called when the entity's health changes. Stops spawning if health reaches 0. */
   private void onHealthUpdate(int newHealth) {
     if (newHealth <= 0 && isAlive) {
       isAlive = false;
-      if (spawnTask != null) {
-        spawnTask.cancel();
-        spawnTask = null;
-      }
-      if (pauseTask != null) {
-        pauseTask.cancel();
-        pauseTask = null;
-      }
+      cancelTasks();
       logger.debug("Alpha enemy died, spawn cycle stopped for entity {}", entity);
     }
   }
@@ -70,17 +84,7 @@ public class AlphaComponent extends Component {
     float spawnDelay =
         config.minAlphaTime + (float) Math.random() * (config.maxAlphaTime - config.minAlphaTime);
 
-    spawnTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                if (isAlive) {
-                  pauseBeforeSpawn();
-                }
-              }
-            },
-            spawnDelay);
+    ServiceLocator.getScheduler().schedule(spawnTask, spawnDelay);
 
     logger.debug("Next spawn scheduled in {} seconds for entity {}", spawnDelay, entity);
   }
@@ -89,19 +93,21 @@ public class AlphaComponent extends Component {
   private void pauseBeforeSpawn() {
     pauseMovement();
 
-    pauseTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                if (isAlive) {
-                  spawnMinions();
-                  resumeMovement();
-                  scheduleNextSpawn();
-                }
-              }
-            },
-            config.pauseTime);
+    ServiceLocator.getScheduler().schedule(pauseTask, config.pauseTime);
+  }
+
+  private void endSpawnDelay() {
+    if (isAlive) {
+      pauseBeforeSpawn();
+    }
+  }
+
+  private void endSpawnPause() {
+    if (isAlive) {
+      spawnMinions();
+      resumeMovement();
+      scheduleNextSpawn();
+    }
   }
 
   /** Pause entity movement */
@@ -173,13 +179,11 @@ public class AlphaComponent extends Component {
   public void dispose() {
     super.dispose();
     // Cancel any scheduled tasks to prevent memory leaks
-    if (spawnTask != null) {
-      spawnTask.cancel();
-      spawnTask = null;
-    }
-    if (pauseTask != null) {
-      pauseTask.cancel();
-      pauseTask = null;
-    }
+    cancelTasks();
+  }
+
+  private void cancelTasks() {
+    spawnTask.cancel();
+    pauseTask.cancel();
   }
 }
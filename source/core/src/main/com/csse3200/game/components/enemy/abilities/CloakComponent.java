@@ -1,12 +1,13 @@
 package com.csse3200.game.components.enemy.abilities;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.enemy.HealthBarComponent;
 import com.csse3200.game.entities.configs.EnemyConfig.CloakConfig;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.TextureRenderComponentAlpha;
+import com.csse3200.game.services.GameScheduler;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,9 +21,12 @@ public class CloakComponent extends Component {
   private final CloakConfig config;
   private boolean isCloaked = false;
   private boolean isPaused = false;
-  private Timer.Task cloakTask;
-  private Timer.Task idleTask;
-  private Timer.Task pauseTask;
+  private final GameScheduler.Task cloakTask = new GameScheduler.Task(this::endCloak);
+  private final GameScheduler.Task idleTask = new GameScheduler.Task(this::schedulePreCloakPause);
+  private final GameScheduler.Task postUncloakPauseTask =
+      new GameScheduler.Task(this::endPostUncloakPause);
+  private final GameScheduler.Task preCloakPauseTask =
+      new GameScheduler.Task(this::endPreCloakPause);
   private Vector2 originalSpeed;
 
   public CloakComponent(CloakConfig config) {
@@ -44,21 +48,30 @@ public class CloakComponent extends Component {
     scheduleInitialUncloak();
   }
 
+  /** Restart the cloak cycle from the beginning, as if newly spawned. */
+  @Override
+  public void reset() {
+    cancelTasks();
+    isPaused = false;
+    cloak();
+    scheduleInitialUncloak();
+  }
+
+  /** Disabled components stop their cloak cycle. */
+  @Override
+  public void setEnabled(boolean enabled) {
+    super.setEnabled(enabled);
+    if (!enabled) {
+      cancelTasks();
+    }
+  }
+
   /** Schedule the initial uncloak after a random cloak duration */
   private void scheduleInitialUncloak() {
     float cloakDuration =
         config.minCloakTime + (float) Math.random() * (config.maxCloakTime - config.minCloakTime);
 
-    cloakTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                uncloak();
-                schedulePostUncloakPause();
-              }
-            },
-            cloakDuration);
+    ServiceLocator.getScheduler().schedule(cloakTask, cloakDuration);
   }
 
   /** Schedule the next cloak period with random duration */
@@ -66,66 +79,46 @@ public class CloakComponent extends Component {
     float cloakDuration =
         config.minCloakTime + (float) Math.random() * (config.maxCloakTime - config.minCloakTime);
 
-    cloakTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                uncloak();
-                schedulePostUncloakPause();
-              }
-            },
-            cloakDuration);
+    ServiceLocator.getScheduler().schedule(cloakTask, cloakDuration);
 
     cloak();
   }
 
+  private void endCloak() {
+    uncloak();
+    schedulePostUncloakPause();
+  }
+
   /** Schedule the pause period after uncloaking */
   private void schedulePostUncloakPause() {
-    pauseTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                resumeMovement();
-                scheduleIdle();
-              }
-            },
-            config.pauseTime);
+    ServiceLocator.getScheduler().schedule(postUncloakPauseTask, config.pauseTime);
 
     pauseMovement();
   }
 
+  private void endPostUncloakPause() {
+    resumeMovement();
+    scheduleIdle();
+  }
+
   /** Schedule the pause period before cloaking */
   private void schedulePreCloakPause() {
-    pauseTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                resumeMovement();
-                scheduleCloak();
-              }
-            },
-            config.pauseTime);
+    ServiceLocator.getScheduler().schedule(preCloakPauseTask, config.pauseTime);
 
     pauseMovement();
   }
 
+  private void endPreCloakPause() {
+    resumeMovement();
+    scheduleCloak();
+  }
+
   /** Schedule the idle period between cloaks with random duration */
   private void scheduleIdle() {
     float idleDuration =
         config.minIdleTime + (float) Math.random() * (config.maxIdleTime - config.minIdleTime);
 
-    idleTask =
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                schedulePreCloakPause();
-              }
-            },
-            idleDuration);
+    ServiceLocator.getScheduler().schedule(idleTask, idleDuration);
   }
 
   /** Activate cloaking - makes entity semi-transparent and invulnerable */
@@ -217,14 +210,13 @@ public class CloakComponent extends Component {
   public void dispose() {
     super.dispose();
     // Cancel any scheduled tasks to prevent memory leaks
-    if (cloakTask != null) {
-      cloakTask.cancel();
-    }
-    if (idleTask != null) {
-      idleTask.cancel();
-    }
-    if (pauseTask != null) {
-      pauseTask.cancel();
-    }
+    cancelTasks();
+  }
+
+  private void cancelTasks() {
+    cloakTask.cancel();
+    idleTask.cancel();
+    postUncloakPauseTask.cancel();
+    preCloakPauseTask.cancel();
   }
 }
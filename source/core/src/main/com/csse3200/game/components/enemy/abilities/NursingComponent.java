@@ -1,6 +1,7 @@
 package com.csse3200.game.components.enemy.abilities;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.enemy.WaypointTrackerComponent;
 import com.csse3200.game.entities.configs.EnemyConfig.NursingConfig;
@@ -27,7 +28,12 @@ public class NursingComponent extends Component {
     super.create();
 
     // Listen for health updates to detect death
-    entity.getEvents().addListener("updateHealth", this::onHealthUpdate);
+    entity.getEvents().addListener(CombatStatsComponent.EVT_UPDATE_HEALTH, this::onHealthUpdate);
+  }
+
+  @Override
+  public void reset() {
+    hasSpawned = false;
   }
 
   /** Called when the entity's health changes. Spawns scavengers if health reaches 0. */
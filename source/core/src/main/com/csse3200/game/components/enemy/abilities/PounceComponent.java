@@ -3,10 +3,16 @@ package com.csse3200.game.components.enemy.abilities;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.ComponentMapper;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
-import com.csse3200.game.services.ServiceLocator;
 
 public class PounceComponent extends Component {
+  /** Pounce timings are in tenths of a second, so updating every other frame is plenty */
+  private static final int UPDATE_INTERVAL = 2;
+
+  private static final ComponentMapper<PhysicsMovementComponent> movementMapper =
+      ComponentMapper.getFor(PhysicsMovementComponent.class);
+
   private float minPounceCooldown;
   private float maxPounceCooldown;
   private float currentCooldown;
@@ -63,19 +69,29 @@ public class PounceComponent extends Component {
     this.currentCooldown = MathUtils.random(minPounceCooldown, maxPounceCooldown);
     this.isPreparing = false;
     this.isPouncing = false;
+    setUpdateInterval(UPDATE_INTERVAL);
   }
 
   @Override
   public void create() {
     super.create();
     // Store the original speed when component is created
-    PhysicsMovementComponent movement = entity.getComponent(PhysicsMovementComponent.class);
+    PhysicsMovementComponent movement = movementMapper.get(entity);
     this.originalSpeed = movement.getMaxSpeed().cpy();
   }
 
+  /** Go back to a random cooldown at normal speed. */
+  @Override
+  public void reset() {
+    isPreparing = false;
+    isPouncing = false;
+    currentCooldown = MathUtils.random(minPounceCooldown, maxPounceCooldown);
+    movementMapper.get(entity).setMaxSpeed(originalSpeed.cpy());
+  }
+
   @Override
   public void update() {
-    float deltaTime = ServiceLocator.getTimeSource().getDeltaTime();
+    float deltaTime = getUpdateDelta();
 
     if (isPreparing) {
       // Preparation phase - hunter is stopped
@@ -104,7 +120,7 @@ public class PounceComponent extends Component {
     preparationTimer = preparationDuration;
 
     // Stop the hunter by setting speed to zero (don't disable movement)
-    PhysicsMovementComponent movement = entity.getComponent(PhysicsMovementComponent.class);
+    PhysicsMovementComponent movement = movementMapper.get(entity);
     movement.setMaxSpeed(Vector2.Zero);
   }
 
@@ -123,7 +139,7 @@ public class PounceComponent extends Component {
     currentSpeedMultiplier = MathUtils.random(minSpeedMultiplier, maxSpeedMultiplier);
 
     // Boost speed temporarily
-    PhysicsMovementComponent movement = entity.getComponent(PhysicsMovementComponent.class);
+    PhysicsMovementComponent movement = movementMapper.get(entity);
     Vector2 pounceSpeed = originalSpeed.cpy().scl(currentSpeedMultiplier);
     movement.setMaxSpeed(pounceSpeed);
   }
@@ -136,7 +152,7 @@ public class PounceComponent extends Component {
     currentCooldown = MathUtils.random(minPounceCooldown, maxPounceCooldown);
 
     // Reset to original speed
-    PhysicsMovementComponent movement = entity.getComponent(PhysicsMovementComponent.class);
+    PhysicsMovementComponent movement = movementMapper.get(entity);
     movement.setMaxSpeed(originalSpeed.cpy());
   }
 
@@ -3,12 +3,15 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.events.EventProfiler;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SimulationLoop;
 import com.csse3200.game.ui.UIComponent;
 
 /** Displays performance stats about the game for debugging purposes. */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  private static final int PROFILED_EVENTS = 5;
   private Label profileLabel;
 
   @Override
@@ -43,6 +46,19 @@ public class PerformanceDisplay extends UIComponent {
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
             .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+    SimulationLoop simulation = ServiceLocator.getSimulationLoop();
+    if (simulation != null) {
+      message =
+          message.concat(
+              String.format(
+                  "Speed: %.0fx, running at %.1fx%s%n",
+                  ServiceLocator.getTimeSource().getTimeScale(),
+                  simulation.getEffectiveSpeed(),
+                  simulation.isFallingBehind() ? " (falling behind)" : ""));
+    }
+    if (EventProfiler.isEnabled()) {
+      message = message.concat("Events:\n").concat(EventProfiler.getReport(PROFILED_EVENTS));
+    }
     return message;
   }
 
@@ -19,8 +19,11 @@ public class PlayerStatsDisplay extends UIComponent {
     super.create();
     addActors();
 
-    entity.getEvents().addListener("updateHealth", this::updatePlayerHealthUI);
-    ServiceLocator.getGameAreaEvents().addListener("updateGold", this::updatePlayerGoldUI);
+    entity
+        .getEvents()
+        .addListener(CombatStatsComponent.EVT_UPDATE_HEALTH, this::updatePlayerHealthUI);
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents().addListener("updateGold", this::updatePlayerGoldUI));
   }
 
   /**
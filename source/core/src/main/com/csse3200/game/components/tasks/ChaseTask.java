@@ -19,6 +19,9 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   private final PhysicsEngine physics;
   private final DebugRenderer debugRenderer;
   private final RaycastHit hit = new RaycastHit();
+  private final Vector2 targetPos = new Vector2();
+  private final Vector2 from = new Vector2();
+  private final Vector2 to = new Vector2();
   private MovementTask movementTask;
 
   /**
@@ -39,7 +42,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   @Override
   public void start() {
     super.start();
-    movementTask = new MovementTask(target.getPosition());
+    movementTask = new MovementTask(target.getPosition(targetPos));
     movementTask.create(owner);
     movementTask.start();
 
@@ -48,7 +51,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 
   @Override
   public void update() {
-    movementTask.setTarget(target.getPosition());
+    movementTask.setTarget(target.getPosition(targetPos));
     movementTask.update();
     if (movementTask.getStatus() != Status.ACTIVE) {
       this.owner.getEntity().getEvents().trigger("finishedChaseTask");
@@ -71,7 +74,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private float getDistanceToTarget() {
-    return owner.getEntity().getPosition().dst(target.getPosition());
+    Entity self = owner.getEntity();
+    return Vector2.dst(self.getX(), self.getY(), target.getX(), target.getY());
   }
 
   private int getActivePriority() {
@@ -91,8 +95,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
+    owner.getEntity().getCenterPosition(from);
+    target.getCenterPosition(to);
 
     // If there is an obstacle in the path to the player, not visible.
     if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
@@ -2,6 +2,7 @@ package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -20,7 +21,7 @@ public class MovementTask extends DefaultTask {
   // Adjust this if we're getting jittering when we reach the target
   private float stopDistance = 0.1f;
   private long lastTimeMoved;
-  private Vector2 lastPos;
+  private final Vector2 lastPos = new Vector2();
   private PhysicsMovementComponent movementComponent;
 
   public MovementTask(Vector2 target) {
@@ -41,7 +42,7 @@ public class MovementTask extends DefaultTask {
     movementComponent.setMoving(true);
     logger.debug("Starting movement towards {}", target);
     lastTimeMoved = gameTime.getTime();
-    lastPos = owner.getEntity().getPosition();
+    owner.getEntity().getPosition(lastPos);
   }
 
   @Override
@@ -68,13 +69,14 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean isAtTarget() {
-    return owner.getEntity().getPosition().dst(target) <= stopDistance;
+    Entity self = owner.getEntity();
+    return target.dst(self.getX(), self.getY()) <= stopDistance;
   }
 
   private void checkIfStuck() {
     if (didMove()) {
       lastTimeMoved = gameTime.getTime();
-      lastPos = owner.getEntity().getPosition();
+      owner.getEntity().getPosition(lastPos);
     } else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
       movementComponent.setMoving(false);
       status = Status.FAILED;
@@ -83,6 +85,7 @@ public class MovementTask extends DefaultTask {
   }
 
   private boolean didMove() {
-    return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+    Entity self = owner.getEntity();
+    return lastPos.dst2(self.getX(), self.getY()) > 0.001f;
   }
 }
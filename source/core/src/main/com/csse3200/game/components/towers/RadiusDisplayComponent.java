@@ -6,7 +6,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.TowerConfig;
@@ -45,20 +44,25 @@ public class RadiusDisplayComponent extends RenderComponent { // Changed from Co
     shapeRenderer = new ShapeRenderer();
 
     if (isPreview) {
-      ServiceLocator.getGameAreaEvents()
-          .addListener(
-              "updateBuildMode",
-              (EventListener1<Boolean>)
-                  (newBuildMode) -> {
-                    buildModeEnabled = newBuildMode;
-                  });
-
-      ServiceLocator.getGameAreaEvents()
-          .addListener("updateTowerPreview", (EventListener1<TowerType>) this::updateRadius);
+      releaseOnDispose(
+          ServiceLocator.getGameAreaEvents()
+              .addListener(
+                  "updateBuildMode",
+                  (EventListener1<Boolean>)
+                      (newBuildMode) -> {
+                        buildModeEnabled = newBuildMode;
+                      }));
+
+      releaseOnDispose(
+          ServiceLocator.getGameAreaEvents()
+              .addListener("updateTowerPreview", (EventListener1<TowerType>) this::updateRadius));
     } else {
-      ServiceLocator.getGameAreaEvents()
-          .addListener("towerClicked", (EventListener1<Entity>) this::handleTowerClick);
-      ServiceLocator.getGameAreaEvents().addListener("deselectTower", () -> isSelected = false);
+      releaseOnDispose(
+          ServiceLocator.getGameAreaEvents()
+              .addListener("towerClicked", (EventListener1<Entity>) this::handleTowerClick));
+      releaseOnDispose(
+          ServiceLocator.getGameAreaEvents()
+              .addListener("deselectTower", () -> isSelected = false));
     }
   }
 
@@ -99,11 +103,8 @@ public class RadiusDisplayComponent extends RenderComponent { // Changed from Co
       return;
     }
 
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
-
-    float centerX = position.x + (scale.x / 2);
-    float centerY = position.y + (scale.y / 2);
+    float centerX = entity.getRenderX() + entity.getScaleX() / 2;
+    float centerY = entity.getRenderY() + entity.getScaleY() / 2;
 
     // End the SpriteBatch before using ShapeRenderer
     batch.end();
@@ -123,17 +124,17 @@ public class RadiusDisplayComponent extends RenderComponent { // Changed from Co
 
   private Camera getCamera() {
     Renderer renderer = Renderer.getCurrentRenderer();
-    CameraComponent cam = renderer.getCamera();
-    if (renderer != null && cam != null) {
-      return cam.getCamera();
+    if (renderer == null || renderer.getCamera() == null) {
+      return null;
     }
-    return null;
+    CameraComponent cam = renderer.getCamera();
+    return cam.getCamera();
   }
 
   @Override
   public float getZIndex() {
     // Draw underneath textures by having a slightly lower z-index
-    return -entity.getPosition().y - 0.1f;
+    return -entity.getY() - 0.1f;
   }
 
   @Override
@@ -4,23 +4,33 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
-import com.csse3200.game.components.enemy.EnemyComponent;
+import com.csse3200.game.components.ParallelUpdate;
+import com.csse3200.game.entities.ComponentMapper;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.EntityHandle;
+import com.csse3200.game.entities.EntityTag;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Component that handles tower attack range and target acquisition. This component manages the
  * tower's ability to detect, target, and attack enemies within a specified range using various
  * targeting strategies.
+ *
+ * <p>Cooldown ticking and target acquisition are side-effect free, so can run in parallel with
+ * other towers (see {@link ParallelUpdate}). Shots are fired afterwards on the main thread.
  */
-public class TowerAttackComponent extends Component {
+public class TowerAttackComponent extends Component implements ParallelUpdate {
+  private static final ComponentMapper<CombatStatsComponent> combatMapper =
+      ComponentMapper.getFor(CombatStatsComponent.class);
 
   private float attackRange;
   private float attackCooldown;
   private float currentCooldown;
-  private Entity currentTarget;
+  /** Handle of the target, so a target which is disposed or pooled is dropped rather than kept */
+  private long currentTarget = EntityHandle.NONE;
   private CombatStatsComponent combatStat;
+  /** Target chosen by computeUpdate() to be fired at by applyUpdate(), or null */
+  private Entity pendingShot;
 
   /**
    * Constructs a new TowerAttackComponent with specified attack parameters.
@@ -43,47 +53,57 @@ public class TowerAttackComponent extends Component {
    */
   @Override
   public void update() {
+    computeUpdate(ServiceLocator.getTimeSource().getDeltaTime());
+    applyUpdate();
+  }
+
+  /**
+   * Decrements the cooldown, validates the current target, and picks a target to fire at if the
+   * tower is ready. Does not fire, so is safe to run off the main thread.
+   *
+   * @param deltaTime time since the last frame in seconds
+   */
+  @Override
+  public void computeUpdate(float deltaTime) {
+    pendingShot = null;
     if (currentCooldown > 0) {
-      currentCooldown -= ServiceLocator.getTimeSource().getDeltaTime();
+      currentCooldown -= deltaTime;
     }
 
-    if (currentTarget != null && !isValidTarget(currentTarget)) {
-      currentTarget = null;
+    if (currentTarget != EntityHandle.NONE && !isValidTarget(getCurrentTarget())) {
+      currentTarget = EntityHandle.NONE;
     }
 
-    if (canAttack() && currentTarget == null) {
-      currentTarget = acquireTarget();
+    if (canAttack()) {
+      // Retarget to the closest enemy before each shot
+      pendingShot = acquireTarget();
+      setCurrentTarget(pendingShot);
     }
+  }
 
-    if (currentTarget != null && canAttack()) {
-      currentTarget = acquireTarget();
-      fireAtTarget(currentTarget);
+  /**
+   * Fires at the target picked by {@link #computeUpdate(float)}. Another tower may have killed it
+   * since, in which case the tower holds its fire and retargets next frame.
+   */
+  @Override
+  public void applyUpdate() {
+    if (pendingShot != null && isValidTarget(pendingShot)) {
+      fireAtTarget(pendingShot);
       resetCooldown();
     }
+    pendingShot = null;
   }
 
   /**
-   * Retrieves all enemy entities within the tower's attack range. Uses squared distance
-   * calculations for performance optimization.
+   * Retrieves all enemy entities within the tower's attack range, using the spatial index so only
+   * nearby entities are checked.
    *
    * @return an array of enemy entities within range
    */
   public Array<Entity> getEnemiesInRange() {
     Array<Entity> enemiesInRange = new Array<>();
-    Vector2 towerPos = entity.getPosition();
-    float rangeSquared = attackRange * attackRange;
-
-    // Get all entities with enemy tag/component
-    EntityService entityService = ServiceLocator.getEntityService();
-    Array<Entity> allEnemies = entityService.getAllEntitiesWithComponent(EnemyComponent.class);
-
-    for (Entity enemy : allEnemies) {
-      float distSquared = towerPos.dst2(enemy.getPosition());
-      if (distSquared <= rangeSquared) {
-        enemiesInRange.add(enemy);
-      }
-    }
-
+    ServiceLocator.getSpatialService()
+        .queryRadius(entity.getX(), entity.getY(), attackRange, EntityTag.ENEMY, enemiesInRange);
     return enemiesInRange;
   }
 
@@ -94,36 +114,18 @@ public class TowerAttackComponent extends Component {
    * @return the selected target entity, or null if no valid targets exist
    */
   private Entity acquireTarget() {
-    Array<Entity> enemies = getEnemiesInRange();
-
-    if (enemies.size == 0) {
-      return null;
-    }
-
-    return findClosestEnemy(enemies);
+    return findClosestEnemy();
   }
 
   /**
-   * Finds the closest enemy from a list of enemies. Uses squared distance for performance
-   * optimization.
+   * Finds the closest enemy within attack range, using the spatial index filtered to entities
+   * tagged as enemies.
    *
-   * @param enemies array of enemy entities to search
-   * @return the closest enemy entity
+   * @return the closest enemy entity in range, or null if none are in range
    */
-  private Entity findClosestEnemy(Array<Entity> enemies) {
-    Entity closest = null;
-    float minDistSquared = Float.MAX_VALUE;
-    Vector2 towerPos = entity.getPosition();
-
-    for (Entity enemy : enemies) {
-      float distSquared = towerPos.dst2(enemy.getPosition());
-      if (distSquared < minDistSquared) {
-        minDistSquared = distSquared;
-        closest = enemy;
-      }
-    }
-
-    return closest;
+  private Entity findClosestEnemy() {
+    return ServiceLocator.getSpatialService()
+        .findNearest(entity.getX(), entity.getY(), attackRange, EntityTag.ENEMY);
   }
 
   /**
@@ -136,12 +138,12 @@ public class TowerAttackComponent extends Component {
   private boolean isValidTarget(Entity target) {
     if (target == null) return false;
 
-    CombatStatsComponent combat = target.getComponent(CombatStatsComponent.class);
+    CombatStatsComponent combat = combatMapper.get(target);
     if (combat == null || combat.isDead()) {
       return false;
     }
 
-    float distSquared = entity.getPosition().dst2(target.getPosition());
+    float distSquared = Vector2.dst2(entity.getX(), entity.getY(), target.getX(), target.getY());
     return distSquared <= attackRange * attackRange;
   }
 
@@ -151,7 +153,7 @@ public class TowerAttackComponent extends Component {
    * @param target the entity to attack
    */
   private void fireAtTarget(Entity target) {
-    target.getComponent(CombatStatsComponent.class).hit(combatStat);
+    combatMapper.get(target).hit(combatStat);
     // entity.getEvents().trigger("attackTarget", target);
   }
 
@@ -226,19 +228,19 @@ public class TowerAttackComponent extends Component {
   /**
    * Gets the entity currently being targeted by the tower.
    *
-   * @return the current target entity, or null if no target
+   * @return the current target entity, or null if no target or the target has been removed
    */
   public Entity getCurrentTarget() {
-    return currentTarget;
+    return ServiceLocator.getEntityService().resolve(currentTarget);
   }
 
   /**
    * Sets the current target entity.
    *
-   * @param target the entity to target
+   * @param target the entity to target, or null to clear the target
    */
   public void setCurrentTarget(Entity target) {
-    this.currentTarget = target;
+    this.currentTarget = target == null ? EntityHandle.NONE : target.getHandle();
   }
 
   /**
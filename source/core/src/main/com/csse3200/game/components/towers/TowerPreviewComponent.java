@@ -11,6 +11,7 @@ import com.csse3200.game.entities.configs.TowerConfig;
 import com.csse3200.game.entities.factories.TowerFactory;
 import com.csse3200.game.entities.factories.TowerFactory.TowerType;
 import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.input.InputService;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.rendering.TextureRenderComponentAlpha;
 import com.csse3200.game.services.ServiceLocator;
@@ -27,17 +28,20 @@ public class TowerPreviewComponent extends Component {
     alphaComp = entity.getComponent(TextureRenderComponentAlpha.class);
     radiusDisplay = entity.getComponent(RadiusDisplayComponent.class);
     updateVisibility();
-    ServiceLocator.getGameAreaEvents()
-        .addListener(
-            "updateBuildMode",
-            (EventListener1<Boolean>)
-                (newBuildMode) -> {
-                  buildModeEnabled = newBuildMode;
-                  updateVisibility();
-                });
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents()
+            .addListener(
+                "updateBuildMode",
+                (EventListener1<Boolean>)
+                    (newBuildMode) -> {
+                      buildModeEnabled = newBuildMode;
+                      updateVisibility();
+                    }));
 
-    ServiceLocator.getGameAreaEvents()
-        .addListener("updateTowerPreview", (EventListener1<TowerType>) this::updatePreviewTexture);
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents()
+            .addListener(
+                "updateTowerPreview", (EventListener1<TowerType>) this::updatePreviewTexture));
   }
 
   private void updatePreviewTexture(TowerType towerType) {
@@ -82,13 +86,16 @@ public class TowerPreviewComponent extends Component {
 
       entity.setPosition((int) worldClickPos.x, (int) worldClickPos.y);
 
-      if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT) && buildModeEnabled && cursorInBounds) {
+      InputService inputService = ServiceLocator.getInputService();
+      if (inputService.isButtonJustPressed(Input.Buttons.LEFT)
+          && buildModeEnabled
+          && cursorInBounds) {
         GridPoint2 location = new GridPoint2((int) worldClickPos.x, (int) worldClickPos.y);
         ServiceLocator.getGameAreaEvents().trigger("towerPlacementClick", location);
         ServiceLocator.getGameAreaEvents().trigger("updateBuildMode", false);
       }
 
-      if (Gdx.input.isButtonJustPressed(Input.Buttons.RIGHT) && buildModeEnabled) {
+      if (inputService.isButtonJustPressed(Input.Buttons.RIGHT) && buildModeEnabled) {
         ServiceLocator.getGameAreaEvents().trigger("updateBuildMode", false);
       }
     }
@@ -96,11 +103,10 @@ public class TowerPreviewComponent extends Component {
 
   private Camera getCamera() {
     Renderer renderer = Renderer.getCurrentRenderer();
-    CameraComponent cam = renderer.getCamera();
-
-    if (renderer != null && cam != null) {
-      return cam.getCamera();
+    if (renderer == null || renderer.getCamera() == null) {
+      return null;
     }
-    return null;
+    CameraComponent cam = renderer.getCamera();
+    return cam.getCamera();
   }
 }
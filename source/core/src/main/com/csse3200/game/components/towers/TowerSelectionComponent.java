@@ -0,0 +1,81 @@
+package com.csse3200.game.components.towers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
+import com.csse3200.game.rendering.Renderer;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.ui.TowerActionsUI;
+import com.csse3200.game.utils.ImmutableArray;
+
+/**
+ * Selects towers when they are clicked, and deselects when anywhere else outside the UI is clicked.
+ * Towers are found through the entity service's tower tag, so a single component handles picking
+ * for every tower.
+ */
+public class TowerSelectionComponent extends Component {
+  private static final float CLICK_RADIUS = 1f;
+
+  private final Vector3 worldClickPos = new Vector3();
+
+  @Override
+  public void update() {
+    if (!ServiceLocator.getInputService().isButtonJustPressed(Input.Buttons.LEFT)) {
+      return;
+    }
+    int screenX = Gdx.input.getX();
+    int screenY = Gdx.input.getY();
+
+    Entity tower = pickTower(screenX, screenY);
+    if (tower != null) {
+      ServiceLocator.getGameAreaEvents().trigger("towerClicked", tower);
+    } else if (!TowerActionsUI.isClickOnUI(screenX, screenY)) {
+      ServiceLocator.getGameAreaEvents().trigger("deselectTower");
+    }
+  }
+
+  /**
+   * Find the tower closest to a click, within the click radius of its centre.
+   *
+   * @param screenX click x position in screen coordinates
+   * @param screenY click y position in screen coordinates
+   * @return clicked tower, or null if no tower was clicked
+   */
+  private Entity pickTower(int screenX, int screenY) {
+    Camera camera = getCamera();
+    if (camera == null) {
+      return null;
+    }
+    camera.unproject(worldClickPos.set(screenX, screenY, 0));
+
+    Entity picked = null;
+    float pickedDistSquared = CLICK_RADIUS * CLICK_RADIUS;
+    ImmutableArray<Entity> towers =
+        ServiceLocator.getEntityService().getEntitiesWithTag(EntityTag.TOWER);
+    for (int i = 0; i < towers.size(); i++) {
+      Entity tower = towers.get(i);
+      float distSquared =
+          Vector2.dst2(worldClickPos.x, worldClickPos.y, tower.getCenterX(), tower.getCenterY());
+      if (distSquared < pickedDistSquared) {
+        picked = tower;
+        pickedDistSquared = distSquared;
+      }
+    }
+    return picked;
+  }
+
+  private Camera getCamera() {
+    Renderer renderer = Renderer.getCurrentRenderer();
+    if (renderer == null || renderer.getCamera() == null) {
+      return null;
+    }
+    CameraComponent cam = renderer.getCamera();
+    return cam.getCamera();
+  }
+}
@@ -43,6 +43,34 @@ public class JobSystem {
     return CompletableFuture.supplyAsync(supplier, executor);
   }
 
+  /**
+   * Launch an asynchronous job like {@link JobSystem#launch(Supplier)}, but complete the returned
+   * future on the game thread, when the {@link MainThreadMailbox} is next drained. Callbacks added
+   * with thenAccept(), whenComplete() etc. then run on the game thread, so they can safely trigger
+   * events and change game state. Don't use the ...Async callback variants, which run elsewhere.
+   *
+   * @param supplier Non-blocking method which is executed asynchronously.
+   * @param <T> Return type of the job
+   * @return A Future which completes with the job's return value on the game thread. Never call
+   *     get() on it from the game thread, as it cannot complete until the game thread drains the
+   *     mailbox.
+   */
+  public static <T> CompletableFuture<T> launchOnMainThread(Supplier<T> supplier) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    launch(supplier)
+        .whenComplete(
+            (value, error) ->
+                MainThreadMailbox.post(
+                    () -> {
+                      if (error != null) {
+                        result.completeExceptionally(error);
+                      } else {
+                        result.complete(value);
+                      }
+                    }));
+    return result;
+  }
+
   /**
    * Launch an asynchronous job which may be run on a separate thread. This is much less efficient
    * than {@link JobSystem#launch(Supplier)} since a new thread may be created for each call. Avoid
@@ -57,6 +85,53 @@ public class JobSystem {
     return CompletableFuture.supplyAsync(supplier, blockingExecutor);
   }
 
+  /**
+   * Run a job over the range [0, count), split into slices which run in parallel on the main thread
+   * pool, and wait for every slice to finish. The calling thread runs a slice itself rather than
+   * sitting idle. Ranges no bigger than one slice run directly on the calling thread.
+   *
+   * <p>Unlike {@link JobSystem#launch(Supplier)}, this blocks until the work is done, so it is
+   * intended for splitting up work inside the update loop. Slices run concurrently, so the job must
+   * only write to state owned by its own part of the range. If any slice throws, this still waits
+   * for the others before rethrowing.
+   *
+   * @param count size of the range
+   * @param sliceSize maximum number of items in each slice
+   * @param job job to run on each slice
+   */
+  public static void parallelFor(int count, int sliceSize, RangeJob job) {
+    if (count <= sliceSize) {
+      job.run(0, count);
+      return;
+    }
+    int sliceCount = (count + sliceSize - 1) / sliceSize;
+    CompletableFuture<?>[] slices = new CompletableFuture<?>[sliceCount - 1];
+    for (int slice = 0; slice < sliceCount - 1; slice++) {
+      int from = slice * sliceSize;
+      int to = from + sliceSize;
+      slices[slice] = CompletableFuture.runAsync(() -> job.run(from, to), executor);
+    }
+    CompletableFuture<Void> all = CompletableFuture.allOf(slices);
+    try {
+      job.run((sliceCount - 1) * sliceSize, count);
+    } catch (RuntimeException | Error e) {
+      // Wait for the other slices anyway, so none are still running once this returns
+      all.handle((ignored, error) -> null).join();
+      throw e;
+    }
+    all.join();
+  }
+
+  /** Work on a slice of a range, see {@link JobSystem#parallelFor(int, int, RangeJob)}. */
+  @FunctionalInterface
+  public interface RangeJob {
+    /**
+     * @param from first index of the slice, inclusive
+     * @param to last index of the slice, exclusive
+     */
+    void run(int from, int to);
+  }
+
   private JobSystem() {
     throw new IllegalStateException("Instantiating static util class");
   }
@@ -0,0 +1,127 @@
+package com.csse3200.game.concurrency;
+
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands work from other threads to the game thread. Event handlers, entities and most services are
+ * not thread-safe, so a job running on the {@link JobSystem} must not trigger events or change game
+ * state directly. Instead, it posts a task or an event here, and the game thread runs it when the
+ * mailbox is drained, once per frame at the start of MainGameScreen.render().
+ *
+ * <p>Posting is lock-free and can be done from any number of threads. Tasks run in the order they
+ * were posted.
+ *
+ * <pre>
+ * JobSystem.launch(() -> findPath(start, goal))
+ *     .thenAccept(path -> MainThreadMailbox.postEvent(entity.getEvents(), "pathFound", path));
+ * </pre>
+ *
+ * <p>To continue on the game thread once a job finishes, {@link
+ * JobSystem#launchOnMainThread(java.util.function.Supplier)} can be used instead.
+ */
+public final class MainThreadMailbox {
+  private static final Logger logger = LoggerFactory.getLogger(MainThreadMailbox.class);
+  private static final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+  /** Tasks posted but not yet run. Kept separately, as counting the queue is not constant time */
+  private static final AtomicInteger pending = new AtomicInteger();
+
+  private MainThreadMailbox() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Run a task on the game thread during the next drain. Can be called from any thread.
+   *
+   * @param task task to run
+   */
+  public static void post(Runnable task) {
+    tasks.add(task);
+    pending.incrementAndGet();
+  }
+
+  /**
+   * Trigger an event with no arguments on the game thread. Can be called from any thread.
+   *
+   * @param events handler to trigger the event on
+   * @param eventName name of the event
+   */
+  public static void postEvent(EventHandler events, String eventName) {
+    post(() -> events.trigger(eventName));
+  }
+
+  /**
+   * Trigger an event with one argument on the game thread. Can be called from any thread. The
+   * argument must not be changed by the posting thread afterwards.
+   *
+   * @param events handler to trigger the event on
+   * @param eventName name of the event
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  public static <T> void postEvent(EventHandler events, String eventName, T arg0) {
+    post(() -> events.trigger(eventName, arg0));
+  }
+
+  /**
+   * Trigger an event with one argument on the game thread. Can be called from any thread. The
+   * argument must not be changed by the posting thread afterwards.
+   *
+   * @param events handler to trigger the event on
+   * @param key event key
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  public static <T> void postEvent(EventHandler events, EventKey<T> key, T arg0) {
+    post(() -> events.trigger(key, arg0));
+  }
+
+  /**
+   * Run the tasks posted before this call, in order. Tasks posted while draining, including by the
+   * tasks themselves, are left for the next drain, so a task which posts itself can't stall the
+   * frame. A task which throws is logged and skipped. Must be called on the game thread.
+   *
+   * @return number of tasks run
+   */
+  public static int drain() {
+    int count = pending.get();
+    for (int i = 0; i < count; i++) {
+      Runnable task = tasks.poll();
+      pending.decrementAndGet();
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        logger.error("Task posted to the game thread failed", e);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Discard all posted tasks without running them, e.g. when the game screen they belong to is
+   * disposed.
+   *
+   * @return number of tasks discarded
+   */
+  public static int clear() {
+    int count = 0;
+    while (tasks.poll() != null) {
+      pending.decrementAndGet();
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * @return number of tasks waiting to be run
+   */
+  public static int getPendingCount() {
+    return pending.get();
+  }
+}
@@ -0,0 +1,70 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+
+/**
+ * Fast access to one type of component on any entity. The component type is resolved once when
+ * the mapper is created, after which getting a component is a single array read. {@link
+ * Entity#getComponent(Class)} has to look up the component type by class on every call, so prefer
+ * a mapper in code which runs every frame or on every hit.
+ *
+ * <p>Mappers hold no per-entity state, so one can be shared by every instance of a class.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * private static final ComponentMapper&lt;CloakComponent&gt; cloakMapper =
+ *     ComponentMapper.getFor(CloakComponent.class);
+ * ...
+ * CloakComponent cloak = cloakMapper.get(entity);
+ * </pre>
+ *
+ * @param <T> component type
+ */
+public final class ComponentMapper<T extends Component> {
+  private final Class<T> type;
+  private final int typeId;
+
+  private ComponentMapper(Class<T> type) {
+    this.type = type;
+    this.typeId = ComponentType.getFrom(type).getId();
+  }
+
+  /**
+   * Create a mapper for a component type.
+   *
+   * @param type component class, e.g. CloakComponent.class
+   * @param <T> component type
+   * @return mapper for the type
+   */
+  public static <T extends Component> ComponentMapper<T> getFor(Class<T> type) {
+    return new ComponentMapper<>(type);
+  }
+
+  /**
+   * Get this mapper's component on an entity.
+   *
+   * @param entity entity to get the component from
+   * @return component, or null if the entity does not have one
+   */
+  @SuppressWarnings("unchecked")
+  public T get(Entity entity) {
+    return (T) entity.getComponentByTypeId(typeId);
+  }
+
+  /**
+   * @param entity entity to check
+   * @return true if the entity has this mapper's component
+   */
+  public boolean has(Entity entity) {
+    return entity.getComponentByTypeId(typeId) != null;
+  }
+
+  /**
+   * @return component class this mapper gets
+   */
+  public Class<T> getType() {
+    return type;
+  }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,18 +26,54 @@ import org.slf4j.LoggerFactory;
  * </pre>
  */
 public class Entity {
+  /** Triggered with the new position when the entity's position is set */
+  public static final EventKey<Vector2> EVT_POSITION = EventKey.of("setPosition");
+
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
+  private static final Component[] NO_COMPONENTS = new Component[0];
 
   private final int id;
   private final IntMap<Component> components;
+  /** Components indexed directly by type ID, for {@link ComponentMapper} */
+  private Component[] componentsByType = NO_COMPONENTS;
   private final EventHandler eventHandler;
   private boolean enabled = true;
   private boolean created = false;
-  private Vector2 position = Vector2.Zero.cpy();
-  private Vector2 scale = new Vector2(1, 1);
+  private boolean deactivated = false;
+  private boolean disposed = false;
+  /** Bitmask of this entity's tags, see {@link EntityTag#mask()} */
+  private int tags;
+  /** This entity's transform while it is not in a store */
+  private float x;
+  private float y;
+  private float scaleX = 1f;
+  private float scaleY = 1f;
+  /** Store holding this entity's transform, or null while it is kept in the fields above */
+  private TransformStore transforms;
+  private int transformSlot = -1;
+  /** The store's save count when this entity was attached, see {@link #setTransformPosition} */
+  private int attachedAtSave;
   private Array<Component> createdComponents;
+  private int[] componentTypeIds;
+  /** Whether each created component is updated by a ComponentSystem instead of this entity */
+  private boolean[] systemUpdated;
+  /** Components which override earlyUpdate() and are not updated by a system */
+  private Component[] earlyUpdateComponents = NO_COMPONENTS;
+  /** Components which override update(), are updated every frame and not by a system */
+  private Component[] updateComponents = NO_COMPONENTS;
+  /** Components which override update() and are updated every few frames, not by a system */
+  private Component[] intervalComponents = NO_COMPONENTS;
+  /** Slot of this entity in each of the entity service's component indexes, by componentTypeIds */
+  private int[] componentIndexSlots;
+  /** Slot of this entity in the entity service, or -1 if not registered */
+  private int serviceSlot = -1;
+  /** Handle given by the entity service, or EntityHandle.NONE if not registered */
+  private long handle = EntityHandle.NONE;
+  /** Slot of this entity in the entity service's list of entities to update, or -1 if not listed */
+  private int updateSlot = -1;
+  /** Slot of this entity in the entity service's list for each tag, by tag ordinal */
+  private int[] tagSlots;
 
   public Entity() {
     id = nextId;
@@ -58,12 +95,64 @@ public class Entity {
   }
 
   /**
-   * Get the entity's game position.
+   * @return true if the entity is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Get the entity's game position. This allocates a new vector, so prefer {@link
+   * #getPosition(Vector2)} or {@link #getX()} and {@link #getY()} in code which runs every frame.
    *
    * @return position
    */
   public Vector2 getPosition() {
-    return position.cpy(); // Cpy gives us pass-by-value to prevent bugs
+    return getPosition(new Vector2());
+  }
+
+  /**
+   * Get the entity's game position without allocating.
+   *
+   * @param out vector to store the position in
+   * @return out, for chaining
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(getX(), getY());
+  }
+
+  /**
+   * @return x position in metres
+   */
+  public float getX() {
+    return transforms == null ? x : transforms.getX(transformSlot);
+  }
+
+  /**
+   * @return y position in metres
+   */
+  public float getY() {
+    return transforms == null ? y : transforms.getY(transformSlot);
+  }
+
+  /**
+   * Get the x position to draw the entity at. Between simulation steps, this is blended from the
+   * previous step's position so movement looks smooth at any frame rate. Game logic should use
+   * {@link #getX()}.
+   *
+   * @return interpolated x position in metres
+   */
+  public float getRenderX() {
+    return transforms == null ? x : transforms.getRenderX(transformSlot);
+  }
+
+  /**
+   * Get the y position to draw the entity at. Game logic should use {@link #getY()}.
+   *
+   * @return interpolated y position in metres
+   */
+  public float getRenderY() {
+    return transforms == null ? y : transforms.getRenderY(transformSlot);
   }
 
   /**
@@ -72,8 +161,10 @@ public class Entity {
    * @param position new position.
    */
   public void setPosition(Vector2 position) {
-    this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    setTransformPosition(position.x, position.y);
+    if (eventHandler.hasListeners(EVT_POSITION)) {
+      eventHandler.trigger(EVT_POSITION, position.cpy());
+    }
   }
 
   /**
@@ -83,9 +174,10 @@ public class Entity {
    * @param y new y position
    */
   public void setPosition(float x, float y) {
-    this.position.x = x;
-    this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    setTransformPosition(x, y);
+    if (eventHandler.hasListeners(EVT_POSITION)) {
+      eventHandler.trigger(EVT_POSITION, getPosition());
+    }
   }
 
   /**
@@ -95,19 +187,45 @@ public class Entity {
    * @param notify true to notify (default), false otherwise
    */
   public void setPosition(Vector2 position, boolean notify) {
-    this.position = position;
+    setTransformPosition(position.x, position.y);
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      eventHandler.trigger(EVT_POSITION, position);
     }
   }
 
   /**
-   * Get the entity's scale. Used for rendering and physics bounding box calculations.
+   * Get the entity's scale. Used for rendering and physics bounding box calculations. This
+   * allocates a new vector, so prefer {@link #getScale(Vector2)} or {@link #getScaleX()} and {@link
+   * #getScaleY()} in code which runs every frame.
    *
    * @return Scale in x and y directions. 1 = 1 metre.
    */
   public Vector2 getScale() {
-    return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
+    return getScale(new Vector2());
+  }
+
+  /**
+   * Get the entity's scale without allocating.
+   *
+   * @param out vector to store the scale in
+   * @return out, for chaining
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(getScaleX(), getScaleY());
+  }
+
+  /**
+   * @return width in metres
+   */
+  public float getScaleX() {
+    return transforms == null ? scaleX : transforms.getScaleX(transformSlot);
+  }
+
+  /**
+   * @return height in metres
+   */
+  public float getScaleY() {
+    return transforms == null ? scaleY : transforms.getScaleY(transformSlot);
   }
 
   /**
@@ -116,7 +234,7 @@ public class Entity {
    * @param scale new scale in metres
    */
   public void setScale(Vector2 scale) {
-    this.scale = scale.cpy();
+    setTransformScale(scale.x, scale.y);
   }
 
   /**
@@ -126,8 +244,7 @@ public class Entity {
    * @param y height in metres
    */
   public void setScale(float x, float y) {
-    this.scale.x = x;
-    this.scale.y = y;
+    setTransformScale(x, y);
   }
 
   /**
@@ -136,8 +253,7 @@ public class Entity {
    * @param x width in metres
    */
   public void scaleWidth(float x) {
-    this.scale.y = this.scale.y / this.scale.x * x;
-    this.scale.x = x;
+    setTransformScale(x, getScaleY() / getScaleX() * x);
   }
 
   /**
@@ -146,17 +262,42 @@ public class Entity {
    * @param y height in metres
    */
   public void scaleHeight(float y) {
-    this.scale.x = this.scale.x / this.scale.y * y;
-    this.scale.y = y;
+    setTransformScale(getScaleX() / getScaleY() * y, y);
   }
 
   /**
-   * Get the entity's center position
+   * Get the entity's center position. This allocates a new vector, so prefer {@link
+   * #getCenterPosition(Vector2)} or {@link #getCenterX()} and {@link #getCenterY()} in code which
+   * runs every frame.
    *
    * @return center position
    */
   public Vector2 getCenterPosition() {
-    return getPosition().mulAdd(getScale(), 0.5f);
+    return getCenterPosition(new Vector2());
+  }
+
+  /**
+   * Get the entity's center position without allocating.
+   *
+   * @param out vector to store the center position in
+   * @return out, for chaining
+   */
+  public Vector2 getCenterPosition(Vector2 out) {
+    return out.set(getCenterX(), getCenterY());
+  }
+
+  /**
+   * @return x position of the entity's center in metres
+   */
+  public float getCenterX() {
+    return getX() + getScaleX() * 0.5f;
+  }
+
+  /**
+   * @return y position of the entity's center in metres
+   */
+  public float getCenterY() {
+    return getY() + getScaleY() * 0.5f;
   }
 
   /**
@@ -169,7 +310,56 @@ public class Entity {
   @SuppressWarnings("unchecked")
   public <T extends Component> T getComponent(Class<T> type) {
     ComponentType componentType = ComponentType.getFrom(type);
-    return (T) components.get(componentType.getId());
+    return (T) getComponentByTypeId(componentType.getId());
+  }
+
+  /**
+   * Get a component by its type ID. Used by {@link ComponentMapper}.
+   *
+   * @param typeId component type ID
+   * @return component, or null if nonexistent
+   */
+  Component getComponentByTypeId(int typeId) {
+    return typeId < componentsByType.length ? componentsByType[typeId] : null;
+  }
+
+  /**
+   * Add a tag to the entity. Can only be called before the entity is registered in the world.
+   *
+   * @param tag tag to add
+   * @return Itself
+   */
+  public Entity addTag(EntityTag tag) {
+    if (created) {
+      logger.error(
+          "Adding tag {} to {} after creation is not supported and will be ignored", tag, this);
+      return this;
+    }
+    tags |= tag.mask();
+    return this;
+  }
+
+  /**
+   * @param tag tag to check
+   * @return true if the entity has the tag
+   */
+  public boolean hasTag(EntityTag tag) {
+    return (tags & tag.mask()) != 0;
+  }
+
+  /**
+   * @param mask bitwise or of {@link EntityTag#mask()} values
+   * @return true if the entity has any of the tags in the mask
+   */
+  public boolean hasAnyTag(int mask) {
+    return (tags & mask) != 0;
+  }
+
+  /**
+   * @return bitmask of this entity's tags
+   */
+  public int getTags() {
+    return tags;
   }
 
   /**
@@ -194,13 +384,27 @@ public class Entity {
       return this;
     }
     components.put(componentType.getId(), component);
+    if (componentType.getId() >= componentsByType.length) {
+      Component[] grown = new Component[componentType.getId() + 1];
+      System.arraycopy(componentsByType, 0, grown, 0, componentsByType.length);
+      componentsByType = grown;
+    }
+    componentsByType[componentType.getId()] = component;
     component.setEntity(this);
 
     return this;
   }
 
-  /** Dispose of the entity. This will dispose of all components on this entity. */
+  /**
+   * Dispose of the entity. This will dispose of all components on this entity. If called while the
+   * entity service is updating, the entity is disabled straight away so that it does not update
+   * again, and disposed once every entity has updated.
+   */
   public void dispose() {
+    if (disposed || ServiceLocator.getEntityService().deferDispose(this)) {
+      return;
+    }
+    disposed = true;
     for (Component component : createdComponents) {
       component.dispose();
     }
@@ -219,6 +423,10 @@ public class Entity {
       return;
     }
     createdComponents = components.values().toArray();
+    componentTypeIds = components.keys().toArray().toArray();
+    componentIndexSlots = new int[componentTypeIds.length];
+    systemUpdated = new boolean[componentTypeIds.length];
+    buildUpdateComponents();
     for (Component component : createdComponents) {
       component.create();
     }
@@ -226,31 +434,363 @@ public class Entity {
   }
 
   /**
-   * Perform an early update on all components. This is called by the entity service and should not
-   * be called manually.
+   * Deactivate the entity so that it can be kept in a pool and reused, instead of being disposed.
+   * The entity is unregistered and all of its components are disabled, which stops it updating,
+   * rendering, colliding and showing up in spatial queries. Nothing is disposed.
+   *
+   * <p>To reuse the entity, call {@link #reset()} and then register it again.
+   */
+  public void deactivate() {
+    if (!created || deactivated) {
+      logger.error("{} can only be deactivated once it is created and active", this);
+      return;
+    }
+    deactivated = true;
+    ServiceLocator.getEntityService().unregister(this);
+    for (Component component : createdComponents) {
+      component.setEnabled(false);
+    }
+  }
+
+  /**
+   * Reset all components of a deactivated entity, ready to be reused. See {@link
+   * Component#reset()}.
+   */
+  public void reset() {
+    if (!deactivated) {
+      logger.error("{} must be deactivated before it is reset", this);
+      return;
+    }
+    for (Component component : createdComponents) {
+      component.reset();
+    }
+  }
+
+  /**
+   * @return true if the entity has been disposed. Disposed entities should no longer be referenced.
+   */
+  public boolean isDisposed() {
+    return disposed;
+  }
+
+  /**
+   * @return true if the entity has been deactivated and not yet registered again
+   */
+  public boolean isDeactivated() {
+    return deactivated;
+  }
+
+  /**
+   * Re-enable all components of a deactivated entity. This is called by the entity service when a
+   * pooled entity is registered again, and should not be called manually.
+   */
+  void activate() {
+    deactivated = false;
+    for (Component component : createdComponents) {
+      component.setEnabled(true);
+    }
+  }
+
+  /**
+   * Perform an early update on all components which override earlyUpdate(). This is called by the
+   * entity service and should not be called manually.
    */
   public void earlyUpdate() {
     if (!enabled) {
       return;
     }
-    for (Component component : createdComponents) {
+    for (Component component : earlyUpdateComponents) {
       component.triggerEarlyUpdate();
     }
   }
 
   /**
-   * Perform an update on all components. This is called by the entity service and should not be
-   * called manually.
+   * Perform an update on all components which override update(). This is called by the entity
+   * service and should not be called manually.
    */
   public void update() {
     if (!enabled) {
       return;
     }
-    for (Component component : createdComponents) {
+    for (Component component : updateComponents) {
       component.triggerUpdate();
     }
   }
 
+  /**
+   * Count down and update the components which are updated every few frames. This is called by the
+   * entity service after {@link #update()} and should not be called manually.
+   *
+   * @param deltaTime time since the last frame in seconds
+   */
+  void updateIntervals(float deltaTime) {
+    if (!enabled) {
+      return;
+    }
+    for (Component component : intervalComponents) {
+      component.triggerIntervalUpdate(deltaTime);
+    }
+  }
+
+  /**
+   * Whether any components need earlyUpdate() or update() to be called by this entity. Entities
+   * without any are not visited by the entity service each frame.
+   *
+   * @return true if the entity has components to update
+   */
+  boolean hasUpdates() {
+    return earlyUpdateComponents.length > 0
+        || updateComponents.length > 0
+        || intervalComponents.length > 0;
+  }
+
+  /**
+   * @param tag tag the entity has
+   * @return slot in the entity service's list for the tag
+   */
+  int getTagSlot(EntityTag tag) {
+    return tagSlots[tag.ordinal()];
+  }
+
+  /**
+   * @param tag tag the entity has
+   * @param slot slot in the entity service's list for the tag
+   */
+  void setTagSlot(EntityTag tag, int slot) {
+    if (tagSlots == null) {
+      tagSlots = new int[EntityTag.values().length];
+    }
+    tagSlots[tag.ordinal()] = slot;
+  }
+
+  /**
+   * @return slot in the entity service's list of entities to update, or -1 if not listed
+   */
+  int getUpdateSlot() {
+    return updateSlot;
+  }
+
+  /**
+   * @param slot slot in the entity service's list of entities to update, or -1 if not listed
+   */
+  void setUpdateSlot(int slot) {
+    updateSlot = slot;
+  }
+
+  /**
+   * Collect the components which override earlyUpdate() or update() into compact arrays, so the
+   * empty default methods are never called. Components which update every few frames are kept
+   * apart, and event-only components are left out of update() entirely.
+   */
+  private void buildUpdateComponents() {
+    int earlyCount = 0;
+    int updateCount = 0;
+    int intervalCount = 0;
+    for (int i = 0; i < createdComponents.size; i++) {
+      Component component = createdComponents.get(i);
+      ComponentType type = ComponentType.getFrom(component.getClass());
+      if (!systemUpdated[i] && type.hasEarlyUpdate()) {
+        earlyCount++;
+      }
+      if (!systemUpdated[i] && type.hasUpdate()) {
+        if (component.getUpdateInterval() == Component.EVERY_FRAME) {
+          updateCount++;
+        } else if (component.getUpdateInterval() > Component.EVERY_FRAME) {
+          intervalCount++;
+        }
+      }
+    }
+
+    earlyUpdateComponents = earlyCount == 0 ? NO_COMPONENTS : new Component[earlyCount];
+    updateComponents = updateCount == 0 ? NO_COMPONENTS : new Component[updateCount];
+    intervalComponents = intervalCount == 0 ? NO_COMPONENTS : new Component[intervalCount];
+    earlyCount = 0;
+    updateCount = 0;
+    intervalCount = 0;
+    for (int i = 0; i < createdComponents.size; i++) {
+      Component component = createdComponents.get(i);
+      ComponentType type = ComponentType.getFrom(component.getClass());
+      if (!systemUpdated[i] && type.hasEarlyUpdate()) {
+        earlyUpdateComponents[earlyCount++] = component;
+      }
+      if (!systemUpdated[i] && type.hasUpdate()) {
+        if (component.getUpdateInterval() == Component.EVERY_FRAME) {
+          updateComponents[updateCount++] = component;
+        } else if (component.getUpdateInterval() > Component.EVERY_FRAME) {
+          intervalComponents[intervalCount++] = component;
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the type IDs of all components on this entity. Used by the entity service to index entities
+   * by component type.
+   *
+   * @return component type IDs, or null if the entity has not been created
+   */
+  int[] getComponentTypeIds() {
+    return componentTypeIds;
+  }
+
+  /**
+   * @param typeId component type ID
+   * @return index of the component type in getComponentTypeIds(), or -1 if there is none
+   */
+  int indexOfComponentType(int typeId) {
+    for (int i = 0; i < componentTypeIds.length; i++) {
+      if (componentTypeIds[i] == typeId) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param i index into getComponentTypeIds()
+   * @return created component with that type
+   */
+  Component getCreatedComponent(int i) {
+    return createdComponents.get(i);
+  }
+
+  /**
+   * Hand updating a component over to a {@link ComponentSystem}, so this entity no longer updates
+   * it.
+   *
+   * @param i index into getComponentTypeIds()
+   */
+  void setSystemUpdated(int i) {
+    if (!systemUpdated[i]) {
+      systemUpdated[i] = true;
+      buildUpdateComponents();
+    }
+  }
+
+  /**
+   * @param i index into getComponentTypeIds()
+   * @return slot of this entity in the entity service's index for that component type
+   */
+  int getComponentIndexSlot(int i) {
+    return componentIndexSlots[i];
+  }
+
+  /**
+   * @param i index into getComponentTypeIds()
+   * @param slot slot of this entity in the entity service's index for that component type
+   */
+  void setComponentIndexSlot(int i, int slot) {
+    componentIndexSlots[i] = slot;
+  }
+
+  /**
+   * Called by the entity service when this entity is moved to a different slot in the index for a
+   * component type.
+   *
+   * @param typeId component type ID
+   * @param slot new slot
+   */
+  void moveComponentIndexSlot(int typeId, int slot) {
+    componentIndexSlots[indexOfComponentType(typeId)] = slot;
+  }
+
+  /**
+   * Get the slot of this entity in the entity service. Slots change as other entities are
+   * unregistered, so should not be held onto.
+   *
+   * @return slot, or -1 if the entity is not registered
+   */
+  int getServiceSlot() {
+    return serviceSlot;
+  }
+
+  /**
+   * Called by the entity service when this entity is registered, unregistered or moved.
+   *
+   * @param slot new slot, or -1 if unregistered
+   */
+  void setServiceSlot(int slot) {
+    serviceSlot = slot;
+  }
+
+  /**
+   * Move this entity's transform into another store, keeping its current position and scale. Called
+   * by the entity service when the entity is registered.
+   *
+   * @param store store to move the transform into
+   */
+  void attachTransforms(TransformStore store) {
+    if (store == transforms) {
+      return;
+    }
+    detachTransforms();
+    transforms = store;
+    transformSlot = store.allocate(this);
+    attachedAtSave = store.getSaveCount();
+    store.setPosition(transformSlot, x, y);
+    store.setScale(transformSlot, scaleX, scaleY);
+    store.resetPrevious(transformSlot);
+  }
+
+  /** Move this entity's transform back out of its store, e.g. when it is unregistered. */
+  void detachTransforms() {
+    if (transforms == null) {
+      return;
+    }
+    x = transforms.getX(transformSlot);
+    y = transforms.getY(transformSlot);
+    scaleX = transforms.getScaleX(transformSlot);
+    scaleY = transforms.getScaleY(transformSlot);
+    transforms.free(transformSlot);
+    transforms = null;
+    transformSlot = -1;
+  }
+
+  /**
+   * Set the transform's position. An entity placed after being attached, but before the next step,
+   * is still spawning, so it is drawn where it is placed rather than sliding in from where it was
+   * attached.
+   */
+  private void setTransformPosition(float x, float y) {
+    if (transforms == null) {
+      this.x = x;
+      this.y = y;
+      return;
+    }
+    transforms.setPosition(transformSlot, x, y);
+    if (attachedAtSave == transforms.getSaveCount()) {
+      transforms.resetPrevious(transformSlot);
+    }
+  }
+
+  private void setTransformScale(float x, float y) {
+    if (transforms == null) {
+      scaleX = x;
+      scaleY = y;
+    } else {
+      transforms.setScale(transformSlot, x, y);
+    }
+  }
+
+  /**
+   * Get the slot holding this entity's transform in its current store. Slots change as other
+   * entities leave the store, so should not be held onto.
+   *
+   * @return transform slot, or -1 if the transform is not in a store
+   */
+  int getTransformSlot() {
+    return transformSlot;
+  }
+
+  /**
+   * Called by the transform store when this entity's transform is moved to a different slot.
+   *
+   * @param slot new transform slot
+   */
+  void setTransformSlot(int slot) {
+    transformSlot = slot;
+  }
+
   /**
    * This entity's unique ID. Used for equality checks
    *
@@ -260,6 +800,24 @@ public class Entity {
     return id;
   }
 
+  /**
+   * Get a handle to this entity which can be held onto safely. Unlike a reference to the entity,
+   * the handle stops resolving once the entity is unregistered, disposed or returned to a pool. See
+   * {@link EntityService#resolve(long)}.
+   *
+   * @return handle, or {@link EntityHandle#NONE} if the entity is not registered
+   */
+  public long getHandle() {
+    return handle;
+  }
+
+  /**
+   * @param handle handle given by the entity service, or EntityHandle.NONE when unregistered
+   */
+  void setHandle(long handle) {
+    this.handle = handle;
+  }
+
   /**
    * Get the event handler attached to this entity. Can be used to trigger events from an attached
    * component, or listen to events from a component.
@@ -277,7 +835,7 @@ public class Entity {
 
   @Override
   public int hashCode() {
-    return super.hashCode();
+    return Integer.hashCode(id);
   }
 
   @Override
@@ -0,0 +1,138 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of structural changes to entities (spawning, disposing, enabling and disabling), owned by
+ * the {@link EntityService}. Queued commands are applied together, in the order they were queued,
+ * at the end of each entity service update. This lets code which runs mid-update, such as event
+ * callbacks, change the set of entities without disturbing the update loop.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * ServiceLocator.getEntityService().getCommands().dispose(enemy);
+ * </pre>
+ */
+public class EntityCommandBuffer {
+  private static final Logger logger = LoggerFactory.getLogger(EntityCommandBuffer.class);
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final int SPAWN = 0;
+  private static final int DISPOSE = 1;
+  private static final int ENABLE = 2;
+  private static final int DISABLE = 3;
+  private static final int UNREGISTER = 4;
+  private static final int RUN = 5;
+
+  private final EntityService entityService;
+  private final IntArray types = new IntArray(INITIAL_CAPACITY);
+  private final Array<Entity> targets = new Array<>(INITIAL_CAPACITY);
+  private final Array<Runnable> actions = new Array<>(INITIAL_CAPACITY);
+
+  EntityCommandBuffer(EntityService entityService) {
+    this.entityService = entityService;
+  }
+
+  /**
+   * Queue an entity to be registered with the entity service.
+   *
+   * @param entity entity to register
+   */
+  public void spawn(Entity entity) {
+    queue(SPAWN, entity, null);
+  }
+
+  /**
+   * Queue an entity to be disposed.
+   *
+   * @param entity entity to dispose
+   */
+  public void dispose(Entity entity) {
+    queue(DISPOSE, entity, null);
+  }
+
+  /**
+   * Queue an entity to be enabled.
+   *
+   * @param entity entity to enable
+   */
+  public void enable(Entity entity) {
+    queue(ENABLE, entity, null);
+  }
+
+  /**
+   * Queue an entity to be disabled.
+   *
+   * @param entity entity to disable
+   */
+  public void disable(Entity entity) {
+    queue(DISABLE, entity, null);
+  }
+
+  /**
+   * Queue any other structural change, such as returning an entity to a pool. Prefer the specific
+   * commands where possible.
+   *
+   * @param action action to run when the buffer is applied
+   */
+  public void run(Runnable action) {
+    queue(RUN, null, action);
+  }
+
+  /**
+   * @return number of commands waiting to be applied
+   */
+  public int size() {
+    return types.size;
+  }
+
+  /** Queue an entity to be unregistered. Used by the entity service while it is updating. */
+  void unregister(Entity entity) {
+    queue(UNREGISTER, entity, null);
+  }
+
+  /**
+   * Apply all queued commands in order. Commands queued while applying, e.g. by an entity's
+   * create(), are applied in the same batch.
+   */
+  void apply() {
+    for (int i = 0; i < types.size; i++) {
+      Entity target = targets.get(i);
+      switch (types.get(i)) {
+        case SPAWN:
+          entityService.register(target);
+          break;
+        case DISPOSE:
+          target.dispose();
+          break;
+        case ENABLE:
+          target.setEnabled(true);
+          break;
+        case DISABLE:
+          target.setEnabled(false);
+          break;
+        case UNREGISTER:
+          entityService.unregister(target);
+          break;
+        case RUN:
+          actions.get(i).run();
+          break;
+        default:
+          logger.error("Unknown entity command {}", types.get(i));
+      }
+    }
+    types.clear();
+    targets.clear();
+    actions.clear();
+  }
+
+  private void queue(int type, Entity target, Runnable action) {
+    types.add(type);
+    targets.add(target);
+    actions.add(action);
+  }
+}
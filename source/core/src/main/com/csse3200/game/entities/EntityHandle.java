@@ -0,0 +1,51 @@
+package com.csse3200.game.entities;
+
+/**
+ * Packs and unpacks entity handles. A handle is a long made of a slot index in the entity service's
+ * handle table and the generation of that slot. The generation changes every time the slot is
+ * freed, so a handle held onto after its entity is unregistered, disposed or returned to a pool
+ * resolves to null instead of to whichever entity is using the slot now.
+ *
+ * <p>Hold a handle rather than an Entity when referring to another entity that may go away, and
+ * resolve it each time it is used:
+ *
+ * <pre>
+ * long target = enemy.getHandle();
+ * ...
+ * Entity enemy = ServiceLocator.getEntityService().resolve(target);
+ * if (enemy != null) { ... }
+ * </pre>
+ */
+public final class EntityHandle {
+  /** Handle which never resolves to an entity. Unregistered entities have this handle. */
+  public static final long NONE = 0L;
+
+  private EntityHandle() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * @param index slot in the handle table
+   * @param generation generation of the slot, starting at 1
+   * @return packed handle
+   */
+  static long of(int index, int generation) {
+    return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+  }
+
+  /**
+   * @param handle packed handle
+   * @return slot in the handle table
+   */
+  static int index(long handle) {
+    return (int) handle;
+  }
+
+  /**
+   * @param handle packed handle
+   * @return generation of the slot when the handle was made
+   */
+  static int generation(long handle) {
+    return (int) (handle >>> 32);
+  }
+}
@@ -1,7 +1,13 @@
 package com.csse3200.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.ImmutableArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,62 +15,492 @@ import org.slf4j.LoggerFactory;
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
  *
+ * <p>Registered entities are also indexed by component type, so that queries such as "all entities
+ * with a CombatStatsComponent" do not need to scan every entity.
+ *
+ * <p>Registered entities are also listed by {@link EntityTag}, so that "all enemies" or "all
+ * towers" can be found without scanning or allocating.
+ *
+ * <p>Components can be updated in batches by a {@link ComponentSystem} rather than by their
+ * entities, see {@link #addSystem(ComponentSystem)}.
+ *
+ * <p>Each registered entity knows its slot in the service and in each component index, so
+ * unregistering is constant time: the last entity is moved into the freed slot. This means the
+ * update order changes as entities are unregistered, but never within a single update, and always
+ * in the same way for the same sequence of changes.
+ *
+ * <p>Each registered entity is given a handle, see {@link EntityHandle}. Handles resolve in
+ * constant time through a slot table, and stop resolving once the entity is unregistered, so they
+ * are safe to hold onto where an Entity reference could go stale.
+ *
+ * <p>Entities registered or unregistered during update() are queued on the {@link
+ * EntityCommandBuffer} and applied once every entity has updated, so the update loop never sees
+ * the set of entities change under it.
+ *
+ * <p>The entity service can optionally keep the position and scale of every registered entity in a
+ * shared {@link TransformStore}, so that systems which scan many entities read packed memory.
+ *
  * <p>Avoid adding additional state here! Global access is often the easy but incorrect answer to
  * sharing data.
  */
 public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
+  private static final int INITIAL_INDEX_CAPACITY = 4;
+  private static final EntityTag[] TAGS = EntityTag.values();
 
   private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
 
+  /** Registered entities with components to update. Others are skipped entirely each frame */
+  private final Array<Entity> updatableEntities = new Array<>(false, INITIAL_CAPACITY);
+
+  /** Map from component type ID to the registered entities which have that component */
+  private final IntMap<Array<Entity>> componentIndex = new IntMap<>(INITIAL_CAPACITY);
+
+  /** Read-only views of the component index, handed out by getEntitiesWithComponent() */
+  private final IntMap<ImmutableArray<Entity>> componentViews = new IntMap<>(INITIAL_CAPACITY);
+
+  /** Registered entities with each tag, by tag ordinal */
+  private final Array<Array<Entity>> tagIndex = new Array<>(TAGS.length);
+
+  /** Read-only views of the tag index, by tag ordinal */
+  private final Array<ImmutableArray<Entity>> tagViews = new Array<>(TAGS.length);
+
+  /** Packed transforms of registered entities, or null if entities keep their own */
+  private final TransformStore transforms;
+
+  private final Array<ComponentSystem<?>> systems = new Array<>(false, INITIAL_INDEX_CAPACITY);
+  private final IntMap<ComponentSystem<?>> systemsByType = new IntMap<>(INITIAL_INDEX_CAPACITY);
+
+  /** Entity using each handle slot, or null if the slot is free */
+  private final Array<Entity> handleEntities = new Array<>(INITIAL_CAPACITY);
+
+  /** Current generation of each handle slot */
+  private final IntArray handleGenerations = new IntArray(INITIAL_CAPACITY);
+
+  /** Free handle slots, reused before new ones are added */
+  private final IntArray freeHandles = new IntArray(INITIAL_CAPACITY);
+
+  private final EntityCommandBuffer commands = new EntityCommandBuffer(this);
+  private boolean updating = false;
+
+  /** Create an entity service where entities keep their own transforms. */
+  public EntityService() {
+    this(false);
+  }
+
+  /**
+   * Create an entity service.
+   *
+   * @param packTransforms true to move the transforms of registered entities into a shared packed
+   *     store, see {@link #getTransformStore()}
+   */
+  public EntityService(boolean packTransforms) {
+    transforms = packTransforms ? new TransformStore() : null;
+    for (int i = 0; i < TAGS.length; i++) {
+      Array<Entity> tagged = new Array<>(false, INITIAL_CAPACITY);
+      tagIndex.add(tagged);
+      tagViews.add(new ImmutableArray<>(tagged));
+    }
+  }
+
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
+   * A deactivated entity from a pool is not created again, its components are re-enabled instead.
+   *
+   * <p>If called during update(), registration is deferred until every entity has updated.
    *
    * @param entity new entity.
    */
   public void register(Entity entity) {
+    if (updating) {
+      commands.spawn(entity);
+      return;
+    }
     logger.debug("Registering {} in entity service", entity);
+    if (isRegistered(entity)) {
+      logger.error("{} is already registered with the entity service", entity);
+      return;
+    }
+    entity.setServiceSlot(entities.size);
     entities.add(entity);
-    entity.create();
+    entity.setHandle(allocateHandle(entity));
+    if (transforms != null) {
+      entity.attachTransforms(transforms);
+    }
+    if (entity.isDeactivated()) {
+      entity.activate();
+    } else {
+      entity.create();
+    }
+    addToIndex(entity);
+    addToTagIndex(entity);
+    if (entity.hasUpdates()) {
+      entity.setUpdateSlot(updatableEntities.size);
+      updatableEntities.add(entity);
+    }
   }
 
-  public <T extends Component> Array<Entity> getAllEntitiesWithComponent(Class<T> componentClass) {
-    Array<Entity> entitiesWithComp = new Array<>();
+  /**
+   * @return number of registered entities
+   */
+  public int getEntityCount() {
+    return entities.size;
+  }
 
-    // Use indexed iteration instead of foreach to avoid nested iterator issues
+  /**
+   * @return number of event listeners on all registered entities
+   */
+  public int getListenerCount() {
+    int count = 0;
+    for (int i = 0; i < entities.size; i++) {
+      count += entities.get(i).getEvents().getListenerCount();
+    }
+    return count;
+  }
+
+  /**
+   * Count registered entities which have already been disposed. Outside of update() this should
+   * always be 0, anything else is a leak.
+   *
+   * @return number of disposed entities still registered
+   */
+  public int countDisposedEntities() {
+    int count = 0;
     for (int i = 0; i < entities.size; i++) {
-      Entity entity = entities.get(i);
-      if (entity.getComponent(componentClass) != null) {
-        entitiesWithComp.add(entity);
+      if (entities.get(i).isDisposed()) {
+        count++;
       }
     }
+    return count;
+  }
+
+  /**
+   * Get the entity a handle refers to.
+   *
+   * @param handle handle from {@link Entity#getHandle()}
+   * @return the entity, or null if it has since been unregistered or the handle is {@link
+   *     EntityHandle#NONE}
+   */
+  public Entity resolve(long handle) {
+    int index = EntityHandle.index(handle);
+    if (index < 0
+        || index >= handleEntities.size
+        || handleGenerations.get(index) != EntityHandle.generation(handle)) {
+      return null;
+    }
+    return handleEntities.get(index);
+  }
+
+  /**
+   * Get all registered entities with a component of the given type. The returned view is owned by
+   * the entity service and is kept up to date as entities are registered and unregistered, so it
+   * can be stored and reused. No copy is made, so this is safe to call every frame.
+   *
+   * <p>Registering or unregistering entities modifies the view, so avoid doing so while iterating
+   * over it.
+   *
+   * @param componentClass component class, e.g. CombatStatsComponent.class
+   * @param <T> component type
+   * @return read-only view of entities with the component
+   */
+  public <T extends Component> ImmutableArray<Entity> getEntitiesWithComponent(
+      Class<T> componentClass) {
+    int typeId = ComponentType.getFrom(componentClass).getId();
+    ImmutableArray<Entity> view = componentViews.get(typeId);
+    if (view == null) {
+      view = new ImmutableArray<>(getIndex(typeId));
+      componentViews.put(typeId, view);
+    }
+    return view;
+  }
+
+  /**
+   * Get all registered entities with a tag. The returned view is owned by the entity service and is
+   * kept up to date as entities are registered and unregistered, so it can be stored and reused.
+   * No copy is made, so this is safe to call every frame.
+   *
+   * @param tag tag, e.g. EntityTag.ENEMY
+   * @return read-only view of entities with the tag
+   */
+  public ImmutableArray<Entity> getEntitiesWithTag(EntityTag tag) {
+    return tagViews.get(tag.ordinal());
+  }
 
-    return entitiesWithComp;
+  /**
+   * Get a copy of all registered entities with a component of the given type. Prefer {@link
+   * #getEntitiesWithComponent(Class)} in code which runs every frame, since this allocates.
+   *
+   * @param componentClass component class, e.g. CombatStatsComponent.class
+   * @param <T> component type
+   * @return new array of entities with the component
+   */
+  public <T extends Component> Array<Entity> getAllEntitiesWithComponent(Class<T> componentClass) {
+    return getEntitiesWithComponent(componentClass).toArray();
   }
 
   /**
-   * Unregister an entity with the entity service. The entity will be removed and stop updating.
+   * Unregister an entity with the entity service. The entity will be removed and stop updating. If
+   * called during update(), removal is deferred until every entity has updated.
    *
    * @param entity entity to be removed.
    */
   public void unregister(Entity entity) {
+    if (updating) {
+      commands.unregister(entity);
+      return;
+    }
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    if (!isRegistered(entity)) {
+      return;
+    }
+    int slot = entity.getServiceSlot();
+    Entity moved = swapRemove(entities, slot);
+    if (moved != null) {
+      moved.setServiceSlot(slot);
+    }
+    entity.setServiceSlot(-1);
+    releaseHandle(entity.getHandle());
+    entity.setHandle(EntityHandle.NONE);
+    removeUpdatable(entity);
+    removeFromTagIndex(entity);
+    removeFromIndex(entity);
+    if (transforms != null) {
+      entity.detachTransforms();
+    }
   }
 
-  /** Update all registered entities. Should only be called from the main game loop. */
+  /**
+   * If called during update(), disable a registered entity and queue it to be disposed once every
+   * entity has updated. Disposing it straight away would leave it, and its disposed components,
+   * updating for the rest of the update. Used by {@link Entity#dispose()}.
+   *
+   * @param entity entity being disposed
+   * @return true if disposal was deferred, false if the entity should be disposed now
+   */
+  boolean deferDispose(Entity entity) {
+    if (!updating || !isRegistered(entity)) {
+      return false;
+    }
+    entity.setEnabled(false);
+    commands.dispose(entity);
+    return true;
+  }
+
+  /**
+   * Add a system to update all components of a type in one pass. From now on those components are
+   * updated by the system rather than by their entities. Systems run in the order they are added:
+   * their early updates before any entity updates, and their updates after every entity updates.
+   *
+   * @param system system to add. Only one system can be added per component type.
+   */
+  public void addSystem(ComponentSystem<?> system) {
+    int typeId = system.getTypeId();
+    if (systemsByType.containsKey(typeId)) {
+      logger.error("A system for {} has already been added", system.getComponentClass());
+      return;
+    }
+    logger.debug("Adding system for {}", system.getComponentClass());
+    systems.add(system);
+    systemsByType.put(typeId, system);
+
+    // Take over components of already registered entities, in the same order as the index
+    Array<Entity> index = getIndex(typeId);
+    for (int slot = 0; slot < index.size; slot++) {
+      Entity entity = index.get(slot);
+      int i = entity.indexOfComponentType(typeId);
+      system.add(entity.getCreatedComponent(i));
+      entity.setSystemUpdated(i);
+      if (!entity.hasUpdates()) {
+        removeUpdatable(entity);
+      }
+    }
+  }
+
+  /**
+   * Get the packed transforms of all registered entities. Slots 0 to size() - 1 can be iterated
+   * directly, which is much cheaper than calling getPosition() on each entity.
+   *
+   * @return shared transform store, or null if this service was created without one
+   */
+  public TransformStore getTransformStore() {
+    return transforms;
+  }
+
+  /**
+   * Get the command buffer used to queue structural changes to entities. Queued commands are
+   * applied at the end of each update().
+   *
+   * @return command buffer
+   */
+  public EntityCommandBuffer getCommands() {
+    return commands;
+  }
+
+  /**
+   * Update all registered entities and systems, then apply any queued commands. Should only be
+   * called from the main game loop.
+   */
   public void update() {
-    for (Entity entity : entities) {
-      entity.earlyUpdate();
-      entity.update();
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    float deltaTime = timeSource == null ? 0f : timeSource.getDeltaTime();
+    updating = true;
+    try {
+      for (int i = 0; i < systems.size; i++) {
+        systems.get(i).runEarlyUpdate();
+      }
+      for (int i = 0; i < updatableEntities.size; i++) {
+        Entity entity = updatableEntities.get(i);
+        entity.earlyUpdate();
+        entity.update();
+        entity.updateIntervals(deltaTime);
+      }
+      for (int i = 0; i < systems.size; i++) {
+        systems.get(i).runUpdate();
+      }
+    } finally {
+      updating = false;
     }
+    commands.apply();
   }
 
   /** Dispose all entities. */
   public void dispose() {
-    for (Entity entity : entities) {
-      entity.dispose();
+    commands.apply();
+    // Disposed entities unregister themselves, so go backwards to avoid skipping any
+    for (int i = entities.size - 1; i >= 0; i--) {
+      entities.get(i).dispose();
+    }
+  }
+
+  private long allocateHandle(Entity entity) {
+    int index;
+    if (freeHandles.isEmpty()) {
+      index = handleEntities.size;
+      handleEntities.add(entity);
+      handleGenerations.add(1);
+    } else {
+      index = freeHandles.pop();
+      handleEntities.set(index, entity);
+    }
+    return EntityHandle.of(index, handleGenerations.get(index));
+  }
+
+  /** Free a handle's slot. Its generation moves on, so existing copies of the handle go stale. */
+  private void releaseHandle(long handle) {
+    int index = EntityHandle.index(handle);
+    if (resolve(handle) == null) {
+      return;
+    }
+    handleEntities.set(index, null);
+    // Skip 0 on wrap-around, so NONE never becomes valid
+    int generation = handleGenerations.get(index) + 1;
+    handleGenerations.set(index, generation == 0 ? 1 : generation);
+    freeHandles.add(index);
+  }
+
+  private boolean isRegistered(Entity entity) {
+    int slot = entity.getServiceSlot();
+    return slot >= 0 && slot < entities.size && entities.get(slot) == entity;
+  }
+
+  private void removeUpdatable(Entity entity) {
+    int slot = entity.getUpdateSlot();
+    if (slot < 0 || slot >= updatableEntities.size || updatableEntities.get(slot) != entity) {
+      return;
+    }
+    Entity moved = swapRemove(updatableEntities, slot);
+    if (moved != null) {
+      moved.setUpdateSlot(slot);
+    }
+    entity.setUpdateSlot(-1);
+  }
+
+  private void addToTagIndex(Entity entity) {
+    if (entity.getTags() == 0) {
+      return;
+    }
+    for (EntityTag tag : TAGS) {
+      if (entity.hasTag(tag)) {
+        Array<Entity> tagged = tagIndex.get(tag.ordinal());
+        entity.setTagSlot(tag, tagged.size);
+        tagged.add(entity);
+      }
+    }
+  }
+
+  private void removeFromTagIndex(Entity entity) {
+    if (entity.getTags() == 0) {
+      return;
+    }
+    for (EntityTag tag : TAGS) {
+      if (entity.hasTag(tag)) {
+        int slot = entity.getTagSlot(tag);
+        Entity moved = swapRemove(tagIndex.get(tag.ordinal()), slot);
+        if (moved != null) {
+          moved.setTagSlot(tag, slot);
+        }
+      }
+    }
+  }
+
+  private void addToIndex(Entity entity) {
+    int[] typeIds = entity.getComponentTypeIds();
+    if (typeIds == null) {
+      // Entity was never created, so it has no components to index
+      return;
+    }
+    for (int i = 0; i < typeIds.length; i++) {
+      Array<Entity> index = getIndex(typeIds[i]);
+      entity.setComponentIndexSlot(i, index.size);
+      index.add(entity);
+      ComponentSystem<?> system = systemsByType.get(typeIds[i]);
+      if (system != null) {
+        system.add(entity.getCreatedComponent(i));
+        entity.setSystemUpdated(i);
+      }
+    }
+  }
+
+  private void removeFromIndex(Entity entity) {
+    int[] typeIds = entity.getComponentTypeIds();
+    if (typeIds == null) {
+      return;
+    }
+    for (int i = 0; i < typeIds.length; i++) {
+      Array<Entity> index = getIndex(typeIds[i]);
+      int slot = entity.getComponentIndexSlot(i);
+      Entity moved = swapRemove(index, slot);
+      if (moved != null) {
+        moved.moveComponentIndexSlot(typeIds[i], slot);
+      }
+      ComponentSystem<?> system = systemsByType.get(typeIds[i]);
+      if (system != null) {
+        system.remove(slot);
+      }
+    }
+  }
+
+  /**
+   * Remove the item in a slot by moving the last item into it.
+   *
+   * @return the item moved into the slot, or null if the removed item was last
+   */
+  private Entity swapRemove(Array<Entity> array, int slot) {
+    Entity last = array.pop();
+    if (slot == array.size) {
+      return null;
+    }
+    array.set(slot, last);
+    return last;
+  }
+
+  private Array<Entity> getIndex(int typeId) {
+    Array<Entity> index = componentIndex.get(typeId);
+    if (index == null) {
+      index = new Array<>(false, INITIAL_INDEX_CAPACITY);
+      componentIndex.put(typeId, index);
     }
+    return index;
   }
 }
@@ -0,0 +1,29 @@
+package com.csse3200.game.entities;
+
+/**
+ * Tags which say what kind of thing an entity is. An entity can have any number of tags, stored as
+ * a bitmask, so checking a tag is a single bitwise and. Registered entities are also listed by tag
+ * in the {@link EntityService}, see {@link EntityService#getEntitiesWithTag(EntityTag)}.
+ *
+ * <p>Prefer a tag over an empty marker component when the only purpose is to find or recognise an
+ * entity.
+ */
+public enum EntityTag {
+  PLAYER,
+  ENEMY,
+  TOWER,
+  WAYPOINT,
+  /** Tower preview which follows the cursor in build mode */
+  PREVIEW,
+  UI,
+  TERRAIN;
+
+  private final int mask = 1 << ordinal();
+
+  /**
+   * @return bit for this tag in an entity's tag mask
+   */
+  public int mask() {
+    return mask;
+  }
+}
@@ -0,0 +1,77 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ParallelUpdate;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.ImmutableArray;
+
+/**
+ * A component system which updates its components in parallel on the {@link JobSystem}. The
+ * components are split into slices, and each slice computes its updates on a worker thread. Once
+ * every slice is done, the side effects are applied on the main thread in a fixed order, so the
+ * result does not depend on how the work was scheduled. See {@link ParallelUpdate} for what is
+ * safe to do in each step.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * entityService.addSystem(new ParallelComponentSystem&lt;&gt;(TowerAttackComponent.class));
+ * </pre>
+ *
+ * @param <T> component type
+ */
+public class ParallelComponentSystem<T extends Component & ParallelUpdate>
+    extends ComponentSystem<T> {
+  /** Below this many components per slice, scheduling costs more than it saves */
+  private static final int DEFAULT_SLICE_SIZE = 32;
+
+  private final int sliceSize;
+
+  /**
+   * Create a parallel system with the default slice size.
+   *
+   * @param componentClass class of the components to update
+   */
+  public ParallelComponentSystem(Class<T> componentClass) {
+    this(componentClass, DEFAULT_SLICE_SIZE);
+  }
+
+  /**
+   * Create a parallel system.
+   *
+   * @param componentClass class of the components to update
+   * @param sliceSize number of components updated by each job
+   */
+  public ParallelComponentSystem(Class<T> componentClass, int sliceSize) {
+    super(componentClass);
+    this.sliceSize = sliceSize;
+  }
+
+  @Override
+  protected void update(ImmutableArray<T> components) {
+    float deltaTime = ServiceLocator.getTimeSource().getDeltaTime();
+    JobSystem.parallelFor(
+        components.size(),
+        sliceSize,
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            T component = components.get(i);
+            if (isActive(component)) {
+              component.computeUpdate(deltaTime);
+            }
+          }
+        });
+
+    for (int i = 0; i < components.size(); i++) {
+      T component = components.get(i);
+      if (isActive(component)) {
+        component.applyUpdate();
+      }
+    }
+  }
+
+  private static boolean isActive(Component component) {
+    return component.isEnabled() && component.getEntity().isEnabled();
+  }
+}
@@ -0,0 +1,228 @@
+package com.csse3200.game.entities;
+
+/**
+ * Packed storage for entity transforms. The position and scale of every entity in the store are
+ * kept next to each other in a single float array, indexed by a dense slot, rather than as
+ * separate Vector2 objects scattered across the heap. Systems which scan many entities (sorting,
+ * movement, range checks) can iterate slots 0 to size() - 1 directly.
+ *
+ * <p>Slots are dense: freeing a slot moves the last transform into it, so slots are not stable
+ * and should not be held onto. Entities track their own slot and delegate their transform
+ * accessors to the store.
+ *
+ * <p>The store also keeps each transform's position from the previous simulation step, so that
+ * rendering between steps can blend the two (see {@link #getRenderX(int)}). Stores which are never
+ * given an interpolation factor render at the current position.
+ */
+public class TransformStore {
+  private static final int STRIDE = 6;
+  private static final int X = 0;
+  private static final int Y = 1;
+  private static final int SCALE_X = 2;
+  private static final int SCALE_Y = 3;
+  private static final int PREVIOUS_X = 4;
+  private static final int PREVIOUS_Y = 5;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private float[] data;
+  private Entity[] owners;
+  private int size;
+
+  /** How far rendering is from the previous step's positions to the current ones, from 0 to 1 */
+  private float interpolation = 1f;
+
+  /** Number of times savePrevious() has been called */
+  private int saveCount = 0;
+
+  /** Create a transform store with the default initial capacity. */
+  public TransformStore() {
+    this(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Create a transform store.
+   *
+   * @param capacity number of transforms which can be stored before the store grows
+   */
+  public TransformStore(int capacity) {
+    data = new float[capacity * STRIDE];
+    owners = new Entity[capacity];
+  }
+
+  /**
+   * @return number of transforms in the store
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param slot transform slot
+   * @return entity which owns the transform in the slot
+   */
+  public Entity getOwner(int slot) {
+    return owners[slot];
+  }
+
+  /**
+   * @param slot transform slot
+   * @return x position
+   */
+  public float getX(int slot) {
+    return data[slot * STRIDE + X];
+  }
+
+  /**
+   * @param slot transform slot
+   * @return y position
+   */
+  public float getY(int slot) {
+    return data[slot * STRIDE + Y];
+  }
+
+  /**
+   * @param slot transform slot
+   * @return width in metres
+   */
+  public float getScaleX(int slot) {
+    return data[slot * STRIDE + SCALE_X];
+  }
+
+  /**
+   * @param slot transform slot
+   * @return height in metres
+   */
+  public float getScaleY(int slot) {
+    return data[slot * STRIDE + SCALE_Y];
+  }
+
+  /**
+   * Get the x position to draw at, blended between the previous and current simulation steps.
+   *
+   * @param slot transform slot
+   * @return interpolated x position
+   */
+  public float getRenderX(int slot) {
+    int offset = slot * STRIDE;
+    float previous = data[offset + PREVIOUS_X];
+    return previous + (data[offset + X] - previous) * interpolation;
+  }
+
+  /**
+   * Get the y position to draw at, blended between the previous and current simulation steps.
+   *
+   * @param slot transform slot
+   * @return interpolated y position
+   */
+  public float getRenderY(int slot) {
+    int offset = slot * STRIDE;
+    float previous = data[offset + PREVIOUS_Y];
+    return previous + (data[offset + Y] - previous) * interpolation;
+  }
+
+  /**
+   * Record every transform's current position as its previous one. Called before each simulation
+   * step, so the step's movement can be interpolated.
+   */
+  public void savePrevious() {
+    int end = size * STRIDE;
+    for (int offset = 0; offset < end; offset += STRIDE) {
+      data[offset + PREVIOUS_X] = data[offset + X];
+      data[offset + PREVIOUS_Y] = data[offset + Y];
+    }
+    saveCount++;
+  }
+
+  /**
+   * Set how far rendering is between the previous simulation step and the current one.
+   *
+   * @param alpha 0 to draw at previous positions, 1 to draw at current positions
+   */
+  public void setInterpolation(float alpha) {
+    interpolation = alpha;
+  }
+
+  /**
+   * @return how far rendering is between the previous simulation step and the current one
+   */
+  public float getInterpolation() {
+    return interpolation;
+  }
+
+  /**
+   * Set a transform's previous position to its current one, so that it is drawn where it is rather
+   * than sliding in from wherever its slot was last step.
+   *
+   * @param slot transform slot
+   */
+  void resetPrevious(int slot) {
+    int offset = slot * STRIDE;
+    data[offset + PREVIOUS_X] = data[offset + X];
+    data[offset + PREVIOUS_Y] = data[offset + Y];
+  }
+
+  /**
+   * @return number of times previous positions have been saved, to tell whether a transform has
+   *     been through a step since it was allocated
+   */
+  int getSaveCount() {
+    return saveCount;
+  }
+
+  void setPosition(int slot, float x, float y) {
+    int offset = slot * STRIDE;
+    data[offset + X] = x;
+    data[offset + Y] = y;
+  }
+
+  void setScale(int slot, float x, float y) {
+    int offset = slot * STRIDE;
+    data[offset + SCALE_X] = x;
+    data[offset + SCALE_Y] = y;
+  }
+
+  /**
+   * Add a transform to the end of the store, at the origin with a scale of 1.
+   *
+   * @param owner entity which owns the transform
+   * @return slot of the new transform
+   */
+  int allocate(Entity owner) {
+    if (size == owners.length) {
+      grow();
+    }
+    int slot = size++;
+    owners[slot] = owner;
+    setPosition(slot, 0f, 0f);
+    setScale(slot, 1f, 1f);
+    resetPrevious(slot);
+    return slot;
+  }
+
+  /**
+   * Remove a transform from the store. The last transform is moved into the freed slot, and its
+   * owner is told about its new slot.
+   *
+   * @param slot slot to free
+   */
+  void free(int slot) {
+    int last = --size;
+    if (slot != last) {
+      System.arraycopy(data, last * STRIDE, data, slot * STRIDE, STRIDE);
+      owners[slot] = owners[last];
+      owners[slot].setTransformSlot(slot);
+    }
+    owners[last] = null;
+  }
+
+  private void grow() {
+    int capacity = Math.max(INITIAL_CAPACITY, (int) (owners.length * 1.75f));
+    float[] newData = new float[capacity * STRIDE];
+    System.arraycopy(data, 0, newData, 0, size * STRIDE);
+    data = newData;
+
+    Entity[] newOwners = new Entity[capacity];
+    System.arraycopy(owners, 0, newOwners, 0, size);
+    owners = newOwners;
+  }
+}
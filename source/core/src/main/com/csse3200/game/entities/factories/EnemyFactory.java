@@ -1,33 +1,47 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.enemy.EnemyClickableComponent;
-import com.csse3200.game.components.enemy.EnemyComponent;
 import com.csse3200.game.components.enemy.HealthBarComponent;
 import com.csse3200.game.components.enemy.WaypointTrackerComponent;
 import com.csse3200.game.components.enemy.abilities.CloakComponent;
 import com.csse3200.game.components.enemy.abilities.NursingComponent;
 import com.csse3200.game.components.enemy.abilities.PounceComponent;
 import com.csse3200.game.components.tasks.ChaseTask;
+import com.csse3200.game.entities.ComponentMapper;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityCommandBuffer;
+import com.csse3200.game.entities.EntityTag;
 import com.csse3200.game.entities.configs.EnemyConfig;
 import com.csse3200.game.entities.configs.EnemyConfigs;
-import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.events.IntEventKey;
 import com.csse3200.game.files.FileLoader;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.TextureRenderComponentAlpha;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.spatial.SpatialComponent;
 import java.util.List;
 
 /** Factory to create enemy entities with predefined components. */
 public class EnemyFactory {
+  /** Triggered on the game area with the gold awarded when an enemy is killed */
+  public static final IntEventKey EVT_ENEMY_KILLED = IntEventKey.of("enemyKilled");
+
+  /** Triggered on the game area with the damage to deal when an enemy reaches the base */
+  public static final IntEventKey EVT_ENEMY_REACHED_BASE = IntEventKey.of("enemyreachedbase");
+
   private static final EnemyConfigs configs =
       FileLoader.readClass(EnemyConfigs.class, "configs/enemies.json");
+  private static final ComponentMapper<WaypointTrackerComponent> trackerMapper =
+      ComponentMapper.getFor(WaypointTrackerComponent.class);
+  private static final ComponentMapper<AITaskComponent> aiMapper =
+      ComponentMapper.getFor(AITaskComponent.class);
+  /** Enemies only chase waypoints, so their AI priorities rarely need re-evaluating */
+  private static final int AI_REEVALUATE_INTERVAL = 10;
 
   public enum EnemyType {
     SCAVENGER("scavenger"),
@@ -69,6 +83,29 @@ public class EnemyFactory {
    * @return A fully configured enemy entity
    */
   public static Entity createEnemy(EnemyType type, List<Entity> waypoints, int startWaypointIndex) {
+    return createEnemy(type, waypoints, startWaypointIndex, null);
+  }
+
+  /**
+   * Creates an enemy of the specified type, reusing a dead enemy from the pool if there is one.
+   * When the enemy dies it is returned to the pool instead of being disposed.
+   *
+   * @param type The type of enemy to create
+   * @param waypoints List of waypoint entities for the enemy to follow
+   * @param startWaypointIndex The waypoint index to start from (0-based)
+   * @param pool Pool to reuse enemies from and return them to, or null to dispose dead enemies
+   * @return A fully configured enemy entity
+   */
+  public static Entity createEnemy(
+      EnemyType type, List<Entity> waypoints, int startWaypointIndex, EnemyPool pool) {
+    if (pool != null) {
+      Entity pooled = pool.obtain(type);
+      if (pooled != null) {
+        restartEnemy(pooled, waypoints, startWaypointIndex);
+        return pooled;
+      }
+    }
+
     EnemyConfig config = configs.enemies.get(type.getConfigKey());
 
     if (config == null) {
@@ -76,7 +113,7 @@ public class EnemyFactory {
       config = new EnemyConfig();
     }
 
-    Entity enemy = createEnemy(config, waypoints, startWaypointIndex);
+    Entity enemy = createEnemy(type, config, waypoints, startWaypointIndex, pool);
 
     // ENEMY SPECIFIC COMPONENTS
     switch (type) {
@@ -124,13 +161,19 @@ public class EnemyFactory {
    * provided waypoints in order, and can be clicked to take damage. When the enemy's health reaches
    * zero, it will be destroyed.
    *
+   * @param type The type of enemy, used to return it to the right pool
    * @param config The enemy configuration
    * @param waypoints List of waypoint entities for the enemy to follow in sequence
    * @param startWaypointIndex The waypoint index to start from (0-based)
+   * @param pool Pool to return the enemy to when it dies, or null to dispose it
    * @return A fully configured enemy entity with physics, combat stats, AI, and event listeners
    */
   private static Entity createEnemy(
-      EnemyConfig config, List<Entity> waypoints, int startWaypointIndex) {
+      EnemyType type,
+      EnemyConfig config,
+      List<Entity> waypoints,
+      int startWaypointIndex,
+      EnemyPool pool) {
     WaypointTrackerComponent waypointTracker = new WaypointTrackerComponent(waypoints);
 
     // Set the starting waypoint if not starting from the beginning
@@ -139,24 +182,19 @@ public class EnemyFactory {
     }
 
     AITaskComponent aiComponent =
-        new AITaskComponent()
-            .addTask(
-                new ChaseTask(
-                    waypointTracker.getCurrentWaypointEntity(),
-                    waypointTracker.getCurrentPriority(),
-                    100f,
-                    100f));
+        new AITaskComponent(AI_REEVALUATE_INTERVAL).addTask(createChaseTask(waypointTracker));
 
     CombatStatsComponent combatStats =
         new CombatStatsComponent(config.health, config.baseAttack, config.baseArmourRating);
 
     Entity enemy =
         new Entity()
-            .addComponent(new EnemyComponent())
+            .addTag(EntityTag.ENEMY)
             .addComponent(new EnemyClickableComponent(config.clickRadius))
             .addComponent(new HealthBarComponent())
             .addComponent(new PhysicsComponent())
             .addComponent(new PhysicsMovementComponent())
+            .addComponent(new SpatialComponent())
             .addComponent(new HitboxComponent())
             .addComponent(combatStats)
             .addComponent(waypointTracker)
@@ -170,9 +208,8 @@ public class EnemyFactory {
     enemy
         .getEvents()
         .addListener(
-            "updateHealth",
-            (EventListener1<Integer>)
-                (health) -> checkEnemyHealth(enemy, health, config.goldAmount));
+            CombatStatsComponent.EVT_UPDATE_HEALTH,
+            health -> checkEnemyHealth(enemy, health, config.goldAmount, type, pool));
 
     enemy
         .getEvents()
@@ -181,6 +218,27 @@ public class EnemyFactory {
     return enemy;
   }
 
+  /**
+   * Sets up a reset enemy from the pool to start again from a waypoint.
+   *
+   * @param enemy The pooled enemy, which has already been reset
+   * @param waypoints List of waypoint entities for the enemy to follow
+   * @param startWaypointIndex The waypoint index to start from (0-based)
+   */
+  private static void restartEnemy(Entity enemy, List<Entity> waypoints, int startWaypointIndex) {
+    WaypointTrackerComponent tracker = trackerMapper.get(enemy);
+    tracker.setWaypoints(waypoints);
+    if (startWaypointIndex > 0) {
+      tracker.setCurrentWaypoint(startWaypointIndex);
+    }
+    aiMapper.get(enemy).addTask(createChaseTask(tracker));
+  }
+
+  private static ChaseTask createChaseTask(WaypointTrackerComponent tracker) {
+    return new ChaseTask(
+        tracker.getCurrentWaypointEntity(), tracker.getCurrentPriority(), 100f, 100f);
+  }
+
   /**
    * Updates the enemy's target to the next waypoint in its path. Advances the waypoint tracker and
    * assigns a new chase task to the enemy's AI. If the enemy has reached the end of the waypoint
@@ -190,18 +248,14 @@ public class EnemyFactory {
    * @param damage The damage value to apply when enemy reaches base
    */
   private static void updateWaypointTarget(Entity enemy, int damage) {
-    WaypointTrackerComponent tracker = enemy.getComponent(WaypointTrackerComponent.class);
+    WaypointTrackerComponent tracker = trackerMapper.get(enemy);
 
     if (tracker.advanceWaypoint()) {
-      enemy
-          .getComponent(AITaskComponent.class)
-          .addTask(
-              new ChaseTask(
-                  tracker.getCurrentWaypointEntity(), tracker.getCurrentPriority(), 100, 100));
+      aiMapper.get(enemy).addTask(createChaseTask(tracker));
     } else {
       if (!tracker.getFinished()) {
         // Reached the end of the waypoint list
-        ServiceLocator.getGameAreaEvents().trigger("enemyreachedbase", damage);
+        ServiceLocator.getGameAreaEvents().trigger(EVT_ENEMY_REACHED_BASE, damage);
         tracker.setFinished(true);
       }
     }
@@ -213,25 +267,35 @@ public class EnemyFactory {
    * @param enemy The enemy entity to check
    * @param newHealth The enemy's current health
    * @param goldAmount The amount of gold to award when enemy dies
+   * @param type The type of enemy
+   * @param pool Pool to return the enemy to, or null to dispose it
    */
-  private static void checkEnemyHealth(Entity enemy, int newHealth, int goldAmount) {
+  private static void checkEnemyHealth(
+      Entity enemy, int newHealth, int goldAmount, EnemyType type, EnemyPool pool) {
     if (newHealth <= 0) {
-      destroyEnemy(enemy, goldAmount);
+      destroyEnemy(enemy, goldAmount, type, pool);
     }
   }
 
   /**
-   * Destroys an enemy entity and cleans up its resources. Awards gold to the player and disposes
-   * the entity. The disposal is posted to run on the next frame to avoid concurrent modification
-   * issues.
+   * Destroys an enemy entity. Awards gold to the player and either returns the entity to its pool
+   * or disposes it. This is queued on the entity service's command buffer, since enemies usually
+   * die in the middle of the update loop.
    *
    * @param enemy The enemy entity to destroy
    * @param goldAmount The amount of gold to award
+   * @param type The type of enemy
+   * @param pool Pool to return the enemy to, or null to dispose it
    */
-  private static void destroyEnemy(Entity enemy, int goldAmount) {
-    ServiceLocator.getGameAreaEvents().trigger("enemyKilled", goldAmount);
+  private static void destroyEnemy(Entity enemy, int goldAmount, EnemyType type, EnemyPool pool) {
+    ServiceLocator.getGameAreaEvents().trigger(EVT_ENEMY_KILLED, goldAmount);
 
-    Gdx.app.postRunnable(() -> enemy.dispose());
+    EntityCommandBuffer commands = ServiceLocator.getEntityService().getCommands();
+    if (pool != null) {
+      commands.run(() -> pool.free(type, enemy));
+    } else {
+      commands.dispose(enemy);
+    }
   }
 
   /** Get the config for a specific enemy type */
@@ -0,0 +1,84 @@
+package com.csse3200.game.entities.factories;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.factories.EnemyFactory.EnemyType;
+import java.util.EnumMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps dead enemies so they can be reused by {@link EnemyFactory} instead of being disposed and
+ * rebuilt. Building an enemy creates an entity, its components, a physics body and fixtures, so
+ * reusing them avoids hitches when many enemies spawn at once.
+ *
+ * <p>Enemies are pooled per {@link EnemyType}, since each type has a different set of components.
+ * Pooled enemies belong to the current physics world, so a pool should not outlive its game area.
+ */
+public class EnemyPool implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(EnemyPool.class);
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final EnumMap<EnemyType, Array<Entity>> freeEnemies = new EnumMap<>(EnemyType.class);
+
+  /**
+   * Take a pooled enemy of the given type, reset and ready to be set up and registered again.
+   *
+   * @param type enemy type
+   * @return reset enemy, or null if there are none of this type in the pool
+   */
+  Entity obtain(EnemyType type) {
+    Array<Entity> free = freeEnemies.get(type);
+    if (free == null || free.isEmpty()) {
+      return null;
+    }
+    Entity enemy = free.pop();
+    enemy.reset();
+    return enemy;
+  }
+
+  /**
+   * Deactivate an enemy and keep it for reuse.
+   *
+   * @param type type the enemy was created as
+   * @param enemy created, active enemy
+   */
+  public void free(EnemyType type, Entity enemy) {
+    if (enemy.isDeactivated()) {
+      logger.debug("{} is already in the enemy pool", enemy);
+      return;
+    }
+    enemy.deactivate();
+    getFree(type).add(enemy);
+  }
+
+  /**
+   * @param type enemy type
+   * @return number of enemies of the type waiting to be reused
+   */
+  public int getFreeCount(EnemyType type) {
+    Array<Entity> free = freeEnemies.get(type);
+    return free == null ? 0 : free.size;
+  }
+
+  /** Dispose all pooled enemies. */
+  @Override
+  public void dispose() {
+    for (Array<Entity> free : freeEnemies.values()) {
+      for (Entity enemy : free) {
+        enemy.dispose();
+      }
+      free.clear();
+    }
+  }
+
+  private Array<Entity> getFree(EnemyType type) {
+    Array<Entity> free = freeEnemies.get(type);
+    if (free == null) {
+      free = new Array<>(false, INITIAL_CAPACITY);
+      freeEnemies.put(type, free);
+    }
+    return free;
+  }
+}
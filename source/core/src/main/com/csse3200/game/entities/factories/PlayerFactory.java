@@ -6,6 +6,7 @@ import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.components.player.PlayerStatsDisplay;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
 import com.csse3200.game.entities.configs.PlayerConfig;
 import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.files.FileLoader;
@@ -39,6 +40,7 @@ public class PlayerFactory {
 
     Entity player =
         new Entity()
+            .addTag(EntityTag.PLAYER)
             .addComponent(new TextureRenderComponent("images/box_boy_leaf.png"))
             .addComponent(new PhysicsComponent())
             .addComponent(new ColliderComponent())
@@ -2,11 +2,11 @@ package com.csse3200.game.entities.factories;
 
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.towers.RadiusDisplayComponent;
-import com.csse3200.game.components.towers.TowerActionsComponent;
 import com.csse3200.game.components.towers.TowerAttackComponent;
 import com.csse3200.game.components.towers.TowerPreviewComponent;
 import com.csse3200.game.components.towers.TowerStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
 import com.csse3200.game.entities.configs.TowerConfig;
 import com.csse3200.game.entities.configs.TowerConfigs;
 import com.csse3200.game.files.FileLoader;
@@ -63,10 +63,10 @@ public class TowerFactory {
 
     Entity tower =
         new Entity()
+            .addTag(EntityTag.TOWER)
             .addComponent(new TextureRenderComponent(config.texturePath))
             .addComponent(
                 new TowerAttackComponent(config.attackRadius, config.attackCooldown, combatStats))
-            .addComponent(new TowerActionsComponent())
             .addComponent(new RadiusDisplayComponent(config.attackRadius, false))
             .addComponent(new TowerStatsComponent(type, config.cost));
 
@@ -84,6 +84,7 @@ public class TowerFactory {
 
     Entity towerPreview =
         new Entity()
+            .addTag(EntityTag.PREVIEW)
             .addComponent(new TowerPreviewComponent())
             .addComponent(new TextureRenderComponentAlpha(config.texturePath, PREVIEW_OPACITY))
             .addComponent(new RadiusDisplayComponent(config.attackRadius));
@@ -2,9 +2,6 @@ package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.events.listeners.*;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,14 +15,37 @@ import org.slf4j.LoggerFactory;
  *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
+ *
+ * <p>Events can be named by string, or by a pre-declared {@link EventKey}. Listeners are stored by
+ * the key's integer ID either way, but the key API skips looking up the name on every call and
+ * checks argument types at compile time, so prefer it for events which fire often. Events with int
+ * or float arguments can use {@link IntEventKey}, {@link FloatEventKey} or {@link ObjIntEventKey}
+ * and their primitive listeners, so the arguments are never boxed.
+ *
+ * <p>Handlers can optionally be queued, see {@link #setQueued(boolean)}, so events are buffered and
+ * dispatched together once per frame. Events which only report the latest state can then be
+ * coalesced, so that many triggers in a frame lead to one dispatch.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  @SuppressWarnings("unchecked")
+  private static final Array<EventSubscription>[] NO_LISTENERS = new Array[0];
+
+  /** Listeners indexed by event key ID, null for events with no listeners */
+  private Array<EventSubscription>[] listeners;
+
+  /** Number of dispatches in progress, including nested ones triggered from listeners */
+  private int dispatchDepth = 0;
+
+  /** Subscriptions removed during a dispatch, taken out of the listeners once it ends */
+  private Array<EventSubscription> pendingRemovals;
+
+  /** Events waiting to be flushed, or null if events are dispatched straight away */
+  private EventQueue queue;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
-    listeners = new HashMap<>(0);
+    listeners = NO_LISTENERS;
   }
 
   /**
@@ -33,9 +53,10 @@ public class EventHandler {
    *
    * @param eventName name of the event
    * @param listener function to call when event fires
+   * @return subscription, to remove the listener with
    */
-  public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+  public EventSubscription addListener(String eventName, EventListener0 listener) {
+    return registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -44,9 +65,10 @@ public class EventHandler {
    * @param eventName name of the event
    * @param listener function to call when event fires
    * @param <T> argument type
+   * @return subscription, to remove the listener with
    */
-  public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+  public <T> EventSubscription addListener(String eventName, EventListener1<T> listener) {
+    return registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -56,9 +78,10 @@ public class EventHandler {
    * @param listener function to call when event fires
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
+   * @return subscription, to remove the listener with
    */
-  public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+  public <T0, T1> EventSubscription addListener(String eventName, EventListener2<T0, T1> listener) {
+    return registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -69,9 +92,79 @@ public class EventHandler {
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
+   * @return subscription, to remove the listener with
+   */
+  public <T0, T1, T2> EventSubscription addListener(
+      String eventName, EventListener3<T0, T1, T2> listener) {
+    return registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param key event key
+   * @param listener function to call when event fires
+   * @return subscription, to remove the listener with
    */
-  public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+  public EventSubscription addListener(EventKey<Void> key, EventListener0 listener) {
+    return registerListener(key, listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param key event key
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   * @return subscription, to remove the listener with
+   */
+  public <T> EventSubscription addListener(EventKey<T> key, EventListener1<T> listener) {
+    return registerListener(key, listener);
+  }
+
+  /**
+   * Add a listener to an event with one int argument
+   *
+   * @param key event key
+   * @param listener function to call when event fires
+   * @return subscription, to remove the listener with
+   */
+  public EventSubscription addListener(IntEventKey key, IntEventListener listener) {
+    return registerListener(key.getId(), key, listener);
+  }
+
+  /**
+   * Add a listener to an event with one float argument
+   *
+   * @param key event key
+   * @param listener function to call when event fires
+   * @return subscription, to remove the listener with
+   */
+  public EventSubscription addListener(FloatEventKey key, FloatEventListener listener) {
+    return registerListener(key.getId(), key, listener);
+  }
+
+  /**
+   * Add a listener to an event with an object argument and an int argument
+   *
+   * @param key event key
+   * @param listener function to call when event fires
+   * @param <T> Type of arg 0
+   * @return subscription, to remove the listener with
+   */
+  public <T> EventSubscription addListener(ObjIntEventKey<T> key, ObjIntEventListener<T> listener) {
+    return registerListener(key.getId(), key, listener);
+  }
+
+  /**
+   * Check whether an event has any listeners, e.g. to skip building an argument nobody will see.
+   *
+   * @param key event key
+   * @return true if at least one listener is attached to the event
+   */
+  public boolean hasListeners(EventKey<?> key) {
+    Array<EventSubscription> subscriptions = getListeners(key.getId());
+    return subscriptions != null && !subscriptions.isEmpty();
   }
 
   /**
@@ -81,7 +174,14 @@ public class EventHandler {
    */
   public void trigger(String eventName) {
     logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(eventName);
+    }
+    if (queue != null) {
+      queue.add(EventKey.of(eventName).getId(), 0, null, null, null);
+      return;
+    }
+    dispatch0(findId(eventName));
   }
 
   /**
@@ -91,11 +191,16 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
     logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(eventName);
+    }
+    if (queue != null) {
+      queue.add(EventKey.of(eventName).getId(), 1, arg0, null, null);
+      return;
+    }
+    dispatch1(findId(eventName), arg0);
   }
 
   /**
@@ -107,12 +212,16 @@ public class EventHandler {
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
     logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(eventName);
+    }
+    if (queue != null) {
+      queue.add(EventKey.of(eventName).getId(), 2, arg0, arg1, null);
+      return;
+    }
+    dispatch2(findId(eventName), arg0, arg1);
   }
 
   /**
@@ -126,33 +235,495 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
     logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(eventName);
+    }
+    if (queue != null) {
+      queue.add(EventKey.of(eventName).getId(), 3, arg0, arg1, arg2);
+      return;
+    }
+    dispatch3(findId(eventName), arg0, arg1, arg2);
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param key event key
+   */
+  public void trigger(EventKey<Void> key) {
+    logTrigger(key.getName());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(key.getId());
+    }
+    if (queue != null) {
+      queue.add(key.getId(), 0, null, null, null);
+      return;
+    }
+    dispatch0(key.getId());
+  }
+
+  /**
+   * Trigger an event with one argument
+   *
+   * @param key event key
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  public <T> void trigger(EventKey<T> key, T arg0) {
+    logTrigger(key.getName());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(key.getId());
+    }
+    if (queue != null) {
+      queue.add(key.getId(), 1, arg0, null, null);
+      return;
+    }
+    dispatch1(key.getId(), arg0);
+  }
+
+  /**
+   * Trigger an event with one int argument, without boxing it
+   *
+   * @param key event key
+   * @param arg0 arg to pass to event
+   */
+  public void trigger(IntEventKey key, int arg0) {
+    logTrigger(key.getName());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(key.getId());
+    }
+    if (queue != null) {
+      queue.addInt(key.getId(), arg0);
+      return;
+    }
+    dispatchInt(key.getId(), arg0);
+  }
+
+  /**
+   * Trigger an event with one float argument, without boxing it
+   *
+   * @param key event key
+   * @param arg0 arg to pass to event
+   */
+  public void trigger(FloatEventKey key, float arg0) {
+    logTrigger(key.getName());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(key.getId());
+    }
+    if (queue != null) {
+      queue.addFloat(key.getId(), arg0);
+      return;
+    }
+    dispatchFloat(key.getId(), arg0);
+  }
+
+  /**
+   * Trigger an event with an object argument and an int argument, without boxing the int
+   *
+   * @param key event key
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T> Type of arg 0
+   */
+  public <T> void trigger(ObjIntEventKey<T> key, T arg0, int arg1) {
+    logTrigger(key.getName());
+    if (EventProfiler.isEnabled()) {
+      EventProfiler.recordTrigger(key.getId());
+    }
+    if (queue != null) {
+      queue.addObjInt(key.getId(), arg0, arg1);
+      return;
+    }
+    dispatchObjInt(key.getId(), arg0, arg1);
+  }
+
+  /**
+   * Switch queued mode on or off. While queued, triggered events are buffered rather than
+   * dispatched straight away, until {@link #flush()} is called. This suits handlers shared by many
+   * objects, such as the game area's, where many events of one kind can fire in a single frame.
+   * Switching queued mode off flushes any buffered events.
+   *
+   * @param queued true to buffer events until flushed
+   */
+  public void setQueued(boolean queued) {
+    if (queued && queue == null) {
+      queue = new EventQueue();
+    } else if (!queued && queue != null) {
+      flush();
+      queue = null;
+    }
+  }
+
+  /**
+   * @return true if events are buffered until flushed
+   */
+  public boolean isQueued() {
+    return queue != null;
+  }
+
+  /**
+   * Mark an event as coalescing, for queued mode. A coalescing event is dispatched at most once per
+   * flush, with the arguments it was last triggered with. Use this for events where only the latest
+   * state matters, such as "the gold total changed".
+   *
+   * @param eventName name of the event
+   */
+  public void setCoalescing(String eventName) {
+    if (queue == null) {
+      logger.error("Only queued event handlers can coalesce events, ignoring {}", eventName);
+      return;
+    }
+    queue.setCoalescing(EventKey.of(eventName).getId());
+  }
+
+  /**
+   * Dispatch all buffered events, in the order they were triggered. Events triggered by listeners
+   * while flushing are dispatched in the same flush. Should be called once per frame for queued
+   * handlers, and does nothing otherwise.
+   */
+  public void flush() {
+    if (queue != null) {
+      queue.flush(this);
+    }
+  }
+
+  /**
+   * @return number of events waiting to be flushed
+   */
+  public int getQueuedCount() {
+    return queue == null ? 0 : queue.size();
+  }
+
+  /**
+   * @return number of listeners across all events
+   */
+  public int getListenerCount() {
+    int count = 0;
+    for (Array<EventSubscription> subscriptions : listeners) {
+      if (subscriptions != null) {
+        count += subscriptions.size;
+      }
+    }
+    // Removed during a dispatch, but not yet taken out of the listener arrays
+    return pendingRemovals == null ? count : count - pendingRemovals.size;
+  }
+
+  private EventSubscription registerListener(EventKey<?> key, EventListener listener) {
+    return registerListener(key.getId(), key, listener);
+  }
+
+  @SuppressWarnings("unchecked")
+  private EventSubscription registerListener(int id, Object key, EventListener listener) {
+    logger.debug("Adding listener {} to event {}", listener, key);
+    if (id >= listeners.length) {
+      Array<EventSubscription>[] grown = new Array[id + 1];
+      System.arraycopy(listeners, 0, grown, 0, listeners.length);
+      listeners = grown;
+    }
+    Array<EventSubscription> subscriptions = listeners[id];
+    if (subscriptions == null) {
+      subscriptions = new Array<>(1);
+      listeners[id] = subscriptions;
+    }
+    EventSubscription subscription = new EventSubscription(this, id, listener, subscriptions.size);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Take a subscription out of its listener array. Called by {@link EventSubscription#remove()},
+   * which has already marked it inactive. During a dispatch the removal is deferred until the
+   * dispatch ends, so the array being iterated doesn't change underneath it.
+   */
+  void removeSubscription(EventSubscription subscription) {
+    logger.debug("Removing listener {} from event {}", subscription.listener, subscription.id);
+    if (dispatchDepth > 0) {
+      if (pendingRemovals == null) {
+        pendingRemovals = new Array<>(false, 4);
+      }
+      pendingRemovals.add(subscription);
+      return;
+    }
+    swapRemove(subscription);
+  }
+
+  /** Remove a subscription by moving the event's last subscription into its slot */
+  private void swapRemove(EventSubscription subscription) {
+    Array<EventSubscription> subscriptions = listeners[subscription.id];
+    EventSubscription last = subscriptions.pop();
+    if (last != subscription) {
+      subscriptions.set(subscription.index, last);
+      last.index = subscription.index;
+    }
+  }
+
+  private void endDispatch() {
+    dispatchDepth--;
+    if (dispatchDepth == 0 && pendingRemovals != null && pendingRemovals.size > 0) {
+      for (int i = 0; i < pendingRemovals.size; i++) {
+        swapRemove(pendingRemovals.get(i));
+      }
+      pendingRemovals.clear();
+    }
+  }
+
+  /** Get the key ID for an event name, or -1 if the name has never been used */
+  private static int findId(String eventName) {
+    EventKey<?> key = EventKey.find(eventName);
+    return key == null ? -1 : key.getId();
+  }
+
+  private Array<EventSubscription> getListeners(int id) {
+    return id >= 0 && id < listeners.length ? listeners[id] : null;
+  }
+
+  void dispatch0(int id) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notify0(subscriptions);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notify0(subscriptions);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  private static void notify0(Array<EventSubscription> subscriptions) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      ((EventListener0) subscription.listener).handle();
+    }
+  }
+
+  void dispatch1(int id, Object arg0) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notify1(subscriptions, arg0);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notify1(subscriptions, arg0);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void notify1(Array<EventSubscription> subscriptions, Object arg0) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      EventListener listener = subscription.listener;
+      // Listeners added with a primitive key, triggered by name or with an EventKey
+      if (listener instanceof IntEventListener) {
+        ((IntEventListener) listener).handle((Integer) arg0);
+      } else if (listener instanceof FloatEventListener) {
+        ((FloatEventListener) listener).handle((Float) arg0);
+      } else {
+        ((EventListener1<Object>) listener).handle(arg0);
+      }
+    }
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners == null) {
-      eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+  void dispatch2(int id, Object arg0, Object arg1) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notify2(subscriptions, arg0, arg1);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notify2(subscriptions, arg0, arg1);
+      }
+    } finally {
+      endDispatch();
     }
-    eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  @SuppressWarnings("unchecked")
+  private static void notify2(Array<EventSubscription> subscriptions, Object arg0, Object arg1) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      EventListener listener = subscription.listener;
+      if (listener instanceof ObjIntEventListener) {
+        ((ObjIntEventListener<Object>) listener).handle(arg0, (Integer) arg1);
+      } else {
+        ((EventListener2<Object, Object>) listener).handle(arg0, arg1);
+      }
     }
   }
 
+  void dispatch3(int id, Object arg0, Object arg1, Object arg2) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notify3(subscriptions, arg0, arg1, arg2);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notify3(subscriptions, arg0, arg1, arg2);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void notify3(
+      Array<EventSubscription> subscriptions, Object arg0, Object arg1, Object arg2) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      ((EventListener3<Object, Object, Object>) subscription.listener).handle(arg0, arg1, arg2);
+    }
+  }
+
+  void dispatchInt(int id, int arg0) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notifyInt(subscriptions, arg0);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notifyInt(subscriptions, arg0);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void notifyInt(Array<EventSubscription> subscriptions, int arg0) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      EventListener listener = subscription.listener;
+      if (listener instanceof IntEventListener) {
+        ((IntEventListener) listener).handle(arg0);
+      } else {
+        ((EventListener1<Integer>) listener).handle(arg0);
+      }
+    }
+  }
+
+  void dispatchFloat(int id, float arg0) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notifyFloat(subscriptions, arg0);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notifyFloat(subscriptions, arg0);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void notifyFloat(Array<EventSubscription> subscriptions, float arg0) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      EventListener listener = subscription.listener;
+      if (listener instanceof FloatEventListener) {
+        ((FloatEventListener) listener).handle(arg0);
+      } else {
+        ((EventListener1<Float>) listener).handle(arg0);
+      }
+    }
+  }
+
+  void dispatchObjInt(int id, Object arg0, int arg1) {
+    Array<EventSubscription> subscriptions = getListeners(id);
+    dispatchDepth++;
+    try {
+      if (EventProfiler.isEnabled()) {
+        long start = System.nanoTime();
+        notifyObjInt(subscriptions, arg0, arg1);
+        EventProfiler.record(id, sizeOf(subscriptions), System.nanoTime() - start);
+      } else {
+        notifyObjInt(subscriptions, arg0, arg1);
+      }
+    } finally {
+      endDispatch();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void notifyObjInt(Array<EventSubscription> subscriptions, Object arg0, int arg1) {
+    if (subscriptions == null) {
+      return;
+    }
+    for (int i = 0; i < subscriptions.size; i++) {
+      EventSubscription subscription = subscriptions.get(i);
+      if (!subscription.isActive()) {
+        continue;
+      }
+      EventListener listener = subscription.listener;
+      if (listener instanceof ObjIntEventListener) {
+        ((ObjIntEventListener<Object>) listener).handle(arg0, arg1);
+      } else {
+        ((EventListener2<Object, Integer>) listener).handle(arg0, arg1);
+      }
+    }
+  }
+
+  private static int sizeOf(Array<EventSubscription> subscriptions) {
+    return subscriptions == null ? 0 : subscriptions.size;
+  }
+
   private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Triggering event {}", eventName);
+    }
   }
 }
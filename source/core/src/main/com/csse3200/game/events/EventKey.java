@@ -0,0 +1,96 @@
+package com.csse3200.game.events;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A pre-declared event, resolved once to a small integer ID. Triggering or listening through a key
+ * skips hashing the event name, and the argument type is checked at compile time rather than
+ * failing with a ClassCastException.
+ *
+ * <p>Keys are shared by name, so listeners added with a key are also triggered by the string API
+ * with the same name, and the other way around. Declare keys as constants next to the code which
+ * triggers the event:
+ *
+ * <pre>
+ * public static final EventKey&lt;Vector2&gt; EVT_POSITION = EventKey.of("setPosition");
+ * ...
+ * entity.getEvents().trigger(EVT_POSITION, position);
+ * </pre>
+ *
+ * <p>Use {@code EventKey<Void>} for events with no arguments, and {@link IntEventKey} or {@link
+ * FloatEventKey} for events with a primitive argument, so it isn't boxed.
+ *
+ * @param <T> type of the event's argument
+ */
+public final class EventKey<T> {
+  private static final ObjectMap<String, EventKey<?>> keys = new ObjectMap<>();
+  private static final Array<EventKey<?>> keysById = new Array<>();
+  private static int nextId = 0;
+
+  private final String name;
+  private final int id;
+
+  private EventKey(String name) {
+    this.name = name;
+    this.id = nextId;
+    nextId++;
+  }
+
+  /**
+   * Get the key for an event name, creating it the first time.
+   *
+   * @param name event name, as used with the string API
+   * @param <T> type of the event's argument
+   * @return key for the event
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> EventKey<T> of(String name) {
+    EventKey<?> key = keys.get(name);
+    if (key == null) {
+      key = new EventKey<>(name);
+      keys.put(name, key);
+      keysById.add(key);
+    }
+    return (EventKey<T>) key;
+  }
+
+  /**
+   * Get the key for an event name without creating one.
+   *
+   * @param name event name
+   * @return key for the event, or null if no key has been made for the name
+   */
+  static EventKey<?> find(String name) {
+    return keys.get(name);
+  }
+
+  /**
+   * Get the key with an ID.
+   *
+   * @param id key ID
+   * @return key with the ID, or null if there is none
+   */
+  static EventKey<?> get(int id) {
+    return id >= 0 && id < keysById.size ? keysById.get(id) : null;
+  }
+
+  /**
+   * @return event name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return small, unique ID of the event, used to index listeners
+   */
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
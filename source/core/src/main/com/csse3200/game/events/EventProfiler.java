@@ -0,0 +1,233 @@
+package com.csse3200.game.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records how often each event is triggered and dispatched, how many listeners it notifies and how
+ * long those listeners take, summed across every event handler. Counters are stored in arrays
+ * indexed by event key ID, so recording is a few array writes.
+ *
+ * <p>Profiling is off by default, when it costs each trigger and dispatch a single branch. Turn it
+ * on with the "events on" terminal command, or {@link #setEnabled(boolean)}.
+ *
+ * <p>Triggers are counted when trigger() is called, including events nobody listens to. Events on a
+ * queued handler are dispatched when they are flushed, so a coalesced event triggered many times is
+ * dispatched once per flush. Listener time includes any events triggered from inside the
+ * listeners.
+ */
+public final class EventProfiler {
+  private static final Logger logger = LoggerFactory.getLogger(EventProfiler.class);
+  private static final int INITIAL_CAPACITY = 64;
+  private static final long NANOS_PER_MS = 1000000;
+
+  private static boolean enabled = false;
+  private static int[] triggers = new int[INITIAL_CAPACITY];
+  private static int[] dispatches = new int[INITIAL_CAPACITY];
+  private static int[] listenerCalls = new int[INITIAL_CAPACITY];
+  private static long[] listenerNanos = new long[INITIAL_CAPACITY];
+
+  private EventProfiler() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * @return true if event dispatches are being recorded
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Start or stop recording event dispatches. Counters are kept when stopping, and added to when
+   * started again, until {@link #reset()} is called.
+   *
+   * @param enabled true to record event dispatches
+   */
+  public static void setEnabled(boolean enabled) {
+    EventProfiler.enabled = enabled;
+  }
+
+  /** Clear all counters. */
+  public static void reset() {
+    triggers = new int[INITIAL_CAPACITY];
+    dispatches = new int[INITIAL_CAPACITY];
+    listenerCalls = new int[INITIAL_CAPACITY];
+    listenerNanos = new long[INITIAL_CAPACITY];
+  }
+
+  /**
+   * @param eventName name of the event
+   * @return times the event has been triggered while profiling
+   */
+  public static int getTriggerCount(String eventName) {
+    int id = findId(eventName);
+    return id < triggers.length ? triggers[id] : 0;
+  }
+
+  /**
+   * @param eventName name of the event
+   * @return times the event has been dispatched while profiling
+   */
+  public static int getDispatchCount(String eventName) {
+    int id = findId(eventName);
+    return id < dispatches.length ? dispatches[id] : 0;
+  }
+
+  /**
+   * @param eventName name of the event
+   * @return listeners notified of the event while profiling, summed across dispatches
+   */
+  public static int getListenerCallCount(String eventName) {
+    int id = findId(eventName);
+    return id < listenerCalls.length ? listenerCalls[id] : 0;
+  }
+
+  /**
+   * @param eventName name of the event
+   * @return time spent in the event's listeners while profiling, in nanoseconds
+   */
+  public static long getListenerNanos(String eventName) {
+    int id = findId(eventName);
+    return id < listenerNanos.length ? listenerNanos[id] : 0;
+  }
+
+  /**
+   * Describe the events which have taken the most listener time, one per line.
+   *
+   * @param maxEvents most events to include
+   * @return table of events, most expensive first
+   */
+  public static String getReport(int maxEvents) {
+    int[] top = findMostExpensive(maxEvents);
+    StringBuilder report = new StringBuilder();
+    for (int id : top) {
+      if (id < 0) {
+        break;
+      }
+      report.append(
+          String.format(
+              "%s: %d triggers, %d dispatches, %d listener calls, %.2f ms%n",
+              EventKey.get(id).getName(),
+              triggers[id],
+              dispatches[id],
+              listenerCalls[id],
+              (double) listenerNanos[id] / NANOS_PER_MS));
+    }
+    return report.toString();
+  }
+
+  /** Log every event triggered or dispatched while profiling, most expensive first. */
+  public static void logReport() {
+    int events = 0;
+    for (int id = 0; id < dispatches.length; id++) {
+      if (isRecorded(id)) {
+        events++;
+      }
+    }
+    if (events == 0) {
+      logger.info("No events recorded{}", enabled ? "" : ", profiling is off");
+      return;
+    }
+    logger.info("Events by listener time:\n{}", getReport(events));
+  }
+
+  /**
+   * Record one trigger of an event. Names which have never had a key are given one, so that
+   * events nobody listens to are still counted.
+   *
+   * @param eventName name of the event
+   */
+  static void recordTrigger(String eventName) {
+    recordTrigger(EventKey.of(eventName).getId());
+  }
+
+  /**
+   * Record one trigger of an event.
+   *
+   * @param id event key ID
+   */
+  static void recordTrigger(int id) {
+    if (id >= dispatches.length) {
+      grow(id + 1);
+    }
+    triggers[id]++;
+  }
+
+  /**
+   * Record one dispatch of an event.
+   *
+   * @param id event key ID, or -1 for a name which has never had a key
+   * @param listenerCount listeners notified
+   * @param nanos time spent in the listeners
+   */
+  static void record(int id, int listenerCount, long nanos) {
+    if (id < 0) {
+      // Never listened to or triggered by key, so there is nowhere to count it
+      return;
+    }
+    if (id >= dispatches.length) {
+      grow(id + 1);
+    }
+    dispatches[id]++;
+    listenerCalls[id] += listenerCount;
+    listenerNanos[id] += nanos;
+  }
+
+  private static void grow(int minCapacity) {
+    int capacity = Math.max(minCapacity, dispatches.length * 2);
+    int[] grownTriggers = new int[capacity];
+    int[] grownDispatches = new int[capacity];
+    int[] grownCalls = new int[capacity];
+    long[] grownNanos = new long[capacity];
+    System.arraycopy(triggers, 0, grownTriggers, 0, triggers.length);
+    System.arraycopy(dispatches, 0, grownDispatches, 0, dispatches.length);
+    System.arraycopy(listenerCalls, 0, grownCalls, 0, listenerCalls.length);
+    System.arraycopy(listenerNanos, 0, grownNanos, 0, listenerNanos.length);
+    triggers = grownTriggers;
+    dispatches = grownDispatches;
+    listenerCalls = grownCalls;
+    listenerNanos = grownNanos;
+  }
+
+  /**
+   * @return IDs of the recorded events with the most listener time, most first, padded with -1
+   */
+  private static int[] findMostExpensive(int maxEvents) {
+    if (maxEvents <= 0) {
+      return new int[0];
+    }
+    int[] top = new int[maxEvents];
+    int found = 0;
+    for (int id = 0; id < dispatches.length; id++) {
+      if (!isRecorded(id)) {
+        continue;
+      }
+      // Insertion sort into the top list, dropping the cheapest if it is full
+      int i = Math.min(found, maxEvents - 1);
+      if (found == maxEvents && listenerNanos[top[i]] >= listenerNanos[id]) {
+        continue;
+      }
+      while (i > 0 && listenerNanos[top[i - 1]] < listenerNanos[id]) {
+        top[i] = top[i - 1];
+        i--;
+      }
+      top[i] = id;
+      found = Math.min(found + 1, maxEvents);
+    }
+    for (int i = found; i < maxEvents; i++) {
+      top[i] = -1;
+    }
+    return top;
+  }
+
+  private static boolean isRecorded(int id) {
+    return triggers[id] > 0 || dispatches[id] > 0;
+  }
+
+  /** Get the key ID for an event name, or an ID past every counter if there is no key */
+  private static int findId(String eventName) {
+    EventKey<?> key = EventKey.find(eventName);
+    return key == null ? Integer.MAX_VALUE : key.getId();
+  }
+}
@@ -0,0 +1,149 @@
+package com.csse3200.game.events;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Events buffered by a queued {@link EventHandler}, to be dispatched together once per frame.
+ * Events are stored in parallel arrays, with int and float arguments kept unboxed.
+ *
+ * <p>Events marked as coalescing keep only one pending entry: triggering one again before it is
+ * dispatched replaces its arguments with the latest ones, and keeps its place in the queue.
+ */
+class EventQueue {
+  private static final Logger logger = LoggerFactory.getLogger(EventQueue.class);
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int NOT_PENDING = -1;
+
+  private static final int ARGS_0 = 0;
+  private static final int ARGS_1 = 1;
+  private static final int ARGS_2 = 2;
+  private static final int ARGS_3 = 3;
+  private static final int INT = 4;
+  private static final int FLOAT = 5;
+  private static final int OBJ_INT = 6;
+
+  private final IntArray kinds = new IntArray(INITIAL_CAPACITY);
+  private final IntArray ids = new IntArray(INITIAL_CAPACITY);
+  private final Array<Object> args0 = new Array<>(INITIAL_CAPACITY);
+  private final Array<Object> args1 = new Array<>(INITIAL_CAPACITY);
+  private final Array<Object> args2 = new Array<>(INITIAL_CAPACITY);
+  private final IntArray ints = new IntArray(INITIAL_CAPACITY);
+  private final FloatArray floats = new FloatArray(INITIAL_CAPACITY);
+
+  /** Whether each event, by key ID, is coalescing */
+  private boolean[] coalescing = new boolean[0];
+
+  /** Queue index of the pending entry of each coalescing event, by key ID */
+  private final IntIntMap pending = new IntIntMap();
+
+  void setCoalescing(int id) {
+    if (id >= coalescing.length) {
+      boolean[] grown = new boolean[id + 1];
+      System.arraycopy(coalescing, 0, grown, 0, coalescing.length);
+      coalescing = grown;
+    }
+    coalescing[id] = true;
+  }
+
+  void add(int id, int argCount, Object arg0, Object arg1, Object arg2) {
+    queue(ARGS_0 + argCount, id, arg0, arg1, arg2, 0, 0f);
+  }
+
+  void addInt(int id, int arg0) {
+    queue(INT, id, null, null, null, arg0, 0f);
+  }
+
+  void addFloat(int id, float arg0) {
+    queue(FLOAT, id, null, null, null, 0, arg0);
+  }
+
+  void addObjInt(int id, Object arg0, int arg1) {
+    queue(OBJ_INT, id, arg0, null, null, arg1, 0f);
+  }
+
+  int size() {
+    return kinds.size;
+  }
+
+  /**
+   * Dispatch all queued events in order. Events queued by listeners while flushing are dispatched
+   * in the same flush.
+   *
+   * @param handler handler to dispatch to
+   */
+  void flush(EventHandler handler) {
+    for (int i = 0; i < kinds.size; i++) {
+      int id = ids.get(i);
+      if (isCoalescing(id) && pending.get(id, NOT_PENDING) == i) {
+        pending.remove(id, NOT_PENDING);
+      }
+      switch (kinds.get(i)) {
+        case ARGS_0:
+          handler.dispatch0(id);
+          break;
+        case ARGS_1:
+          handler.dispatch1(id, args0.get(i));
+          break;
+        case ARGS_2:
+          handler.dispatch2(id, args0.get(i), args1.get(i));
+          break;
+        case ARGS_3:
+          handler.dispatch3(id, args0.get(i), args1.get(i), args2.get(i));
+          break;
+        case INT:
+          handler.dispatchInt(id, ints.get(i));
+          break;
+        case FLOAT:
+          handler.dispatchFloat(id, floats.get(i));
+          break;
+        case OBJ_INT:
+          handler.dispatchObjInt(id, args0.get(i), ints.get(i));
+          break;
+        default:
+          logger.error("Unknown queued event kind {}", kinds.get(i));
+      }
+    }
+    kinds.clear();
+    ids.clear();
+    args0.clear();
+    args1.clear();
+    args2.clear();
+    ints.clear();
+    floats.clear();
+    pending.clear();
+  }
+
+  private boolean isCoalescing(int id) {
+    return id < coalescing.length && coalescing[id];
+  }
+
+  private void queue(
+      int kind, int id, Object arg0, Object arg1, Object arg2, int intArg, float floatArg) {
+    if (isCoalescing(id)) {
+      int index = pending.get(id, NOT_PENDING);
+      if (index != NOT_PENDING) {
+        // Replace the pending entry's arguments with the latest ones
+        kinds.set(index, kind);
+        args0.set(index, arg0);
+        args1.set(index, arg1);
+        args2.set(index, arg2);
+        ints.set(index, intArg);
+        floats.set(index, floatArg);
+        return;
+      }
+      pending.put(id, kinds.size);
+    }
+    kinds.add(kind);
+    ids.add(id);
+    args0.add(arg0);
+    args1.add(arg1);
+    args2.add(arg2);
+    ints.add(intArg);
+    floats.add(floatArg);
+  }
+}
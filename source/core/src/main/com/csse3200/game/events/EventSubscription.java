@@ -0,0 +1,50 @@
+package com.csse3200.game.events;
+
+import com.csse3200.game.events.listeners.EventListener;
+
+/**
+ * A listener added to an {@link EventHandler}, returned by addListener so that it can be removed
+ * again. Removing a subscription is constant time, and is safe from inside a listener: a listener
+ * removed while its event is being dispatched is not called again, even in that dispatch.
+ *
+ * <p>Components listening to events outside their own entity, such as the game area's, should pass
+ * the subscription to {@code Component.releaseOnDispose} so it is removed with the component:
+ *
+ * <pre>
+ * releaseOnDispose(ServiceLocator.getGameAreaEvents().addListener("deselectTower", this::hide));
+ * </pre>
+ */
+public final class EventSubscription {
+  final int id;
+  final EventListener listener;
+
+  /** Handler the listener is attached to, or null once removed */
+  private EventHandler handler;
+
+  /** Position of this subscription in the handler's listeners for the event */
+  int index;
+
+  EventSubscription(EventHandler handler, int id, EventListener listener, int index) {
+    this.handler = handler;
+    this.id = id;
+    this.listener = listener;
+    this.index = index;
+  }
+
+  /** Remove the listener from its event handler. Does nothing if it has already been removed. */
+  public void remove() {
+    if (handler == null) {
+      return;
+    }
+    EventHandler removedFrom = handler;
+    handler = null;
+    removedFrom.removeSubscription(this);
+  }
+
+  /**
+   * @return true if the listener is still attached to its event handler
+   */
+  public boolean isActive() {
+    return handler != null;
+  }
+}
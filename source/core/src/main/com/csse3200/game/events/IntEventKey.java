@@ -0,0 +1,51 @@
+package com.csse3200.game.events;
+
+import com.csse3200.game.events.listeners.IntEventListener;
+
+/**
+ * A pre-declared event with one int argument, such as health or gold. Listeners added with this key
+ * are {@link IntEventListener}s, so triggering it never boxes the argument.
+ *
+ * <p>Shares its ID with the {@link EventKey} of the same name. Listeners added by name are still
+ * triggered, with the argument boxed for them.
+ *
+ * <pre>
+ * public static final IntEventKey EVT_UPDATE_HEALTH = IntEventKey.of("updateHealth");
+ * </pre>
+ */
+public final class IntEventKey {
+  private final EventKey<?> key;
+
+  private IntEventKey(EventKey<?> key) {
+    this.key = key;
+  }
+
+  /**
+   * Get the key for an event name.
+   *
+   * @param name event name, as used with the string API
+   * @return key for the event
+   */
+  public static IntEventKey of(String name) {
+    return new IntEventKey(EventKey.of(name));
+  }
+
+  /**
+   * @return event name
+   */
+  public String getName() {
+    return key.getName();
+  }
+
+  /**
+   * @return small, unique ID of the event, shared with the EventKey of the same name
+   */
+  public int getId() {
+    return key.getId();
+  }
+
+  @Override
+  public String toString() {
+    return key.toString();
+  }
+}
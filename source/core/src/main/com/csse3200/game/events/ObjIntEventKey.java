@@ -0,0 +1,51 @@
+package com.csse3200.game.events;
+
+import com.csse3200.game.events.listeners.ObjIntEventListener;
+
+/**
+ * A pre-declared event with an object argument followed by an int argument, e.g. an attacker and
+ * the damage dealt. Listeners added with this key are {@link ObjIntEventListener}s, so triggering
+ * it never boxes the int.
+ *
+ * <p>Shares its ID with the {@link EventKey} of the same name. Listeners added by name are still
+ * triggered, with the int boxed for them.
+ *
+ * @param <T> type of the object argument
+ */
+public final class ObjIntEventKey<T> {
+  private final EventKey<?> key;
+
+  private ObjIntEventKey(EventKey<?> key) {
+    this.key = key;
+  }
+
+  /**
+   * Get the key for an event name.
+   *
+   * @param name event name, as used with the string API
+   * @param <T> type of the object argument
+   * @return key for the event
+   */
+  public static <T> ObjIntEventKey<T> of(String name) {
+    return new ObjIntEventKey<>(EventKey.of(name));
+  }
+
+  /**
+   * @return event name
+   */
+  public String getName() {
+    return key.getName();
+  }
+
+  /**
+   * @return small, unique ID of the event, shared with the EventKey of the same name
+   */
+  public int getId() {
+    return key.getId();
+  }
+
+  @Override
+  public String toString() {
+    return key.toString();
+  }
+}
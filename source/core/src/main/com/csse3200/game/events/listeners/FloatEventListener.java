@@ -0,0 +1,7 @@
+package com.csse3200.game.events.listeners;
+
+/** An event listener with 1 float argument, which avoids boxing it */
+@FunctionalInterface
+public interface FloatEventListener extends EventListener {
+  void handle(float arg);
+}
@@ -0,0 +1,7 @@
+package com.csse3200.game.events.listeners;
+
+/** An event listener with 1 int argument, which avoids boxing it */
+@FunctionalInterface
+public interface IntEventListener extends EventListener {
+  void handle(int arg);
+}
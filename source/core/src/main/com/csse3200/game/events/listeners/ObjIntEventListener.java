@@ -0,0 +1,7 @@
+package com.csse3200.game.events.listeners;
+
+/** An event listener with an object argument and an int argument, which avoids boxing the int */
+@FunctionalInterface
+public interface ObjIntEventListener<T> extends EventListener {
+  void handle(T arg0, int arg1);
+}
@@ -17,6 +17,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>When an input is received, it is passed to registered input handlers in descending priority
  * order and stops as soon as the input is handled.
+ *
+ * <p>Mouse presses are also latched until the end of the next simulation step, for components
+ * which check for clicks in update() (see {@link #isButtonJustPressed(int)}). Gdx.input's own
+ * just-pressed state only lasts one rendered frame, so a click on a frame which runs no simulation
+ * steps would be missed.
  */
 public class InputService implements InputProcessor, GestureDetector.GestureListener {
   private static final Logger logger = LoggerFactory.getLogger(InputService.class);
@@ -28,6 +33,9 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
   private final List<InputComponent> inputHandlers = new ArrayList<>();
   private final InputFactory inputFactory;
 
+  /** Mouse buttons pressed since the last simulation step, one bit per button */
+  private int justPressedButtons;
+
   public InputService() {
     this(InputFactory.createFromInputType(inputType));
   }
@@ -67,6 +75,29 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
     inputHandlers.remove(inputHandler);
   }
 
+  /**
+   * Check whether a mouse button has been pressed since the last simulation step, whether or not an
+   * input handler consumed the press.
+   *
+   * @param button button code, see {@link com.badlogic.gdx.Input.Buttons}
+   * @return true if the button was pressed
+   */
+  public boolean isButtonJustPressed(int button) {
+    return (justPressedButtons & (1 << button)) != 0;
+  }
+
+  /**
+   * @return true if any mouse button has been pressed since the last simulation step
+   */
+  public boolean isJustTouched() {
+    return justPressedButtons != 0;
+  }
+
+  /** Forget mouse presses seen so far. Called at the end of each simulation step. */
+  public void clearJustPressed() {
+    justPressedButtons = 0;
+  }
+
   /**
    * Iterates over registered input handlers in descending priority and stops as soon as the input
    * is processed.
@@ -171,6 +202,7 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
    */
   @Override
   public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+    justPressedButtons |= 1 << button;
     for (InputComponent inputHandler : inputHandlers) {
       if (inputHandler.touchDown(screenX, screenY, pointer, button)) {
         logger.debug("touchDown input handled by {}", inputHandler);
@@ -2,7 +2,9 @@ package com.csse3200.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.physics.raycast.SingleHitCallback;
@@ -27,7 +29,10 @@ public class PhysicsEngine implements Disposable {
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final Array<Body> bodies = new Array<>();
   private float accumulator;
+  private int bodiesCreated;
+  private int bodiesDestroyed;
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -55,13 +60,26 @@ public class PhysicsEngine implements Disposable {
     }
   }
 
+  /**
+   * Advance the physics world by exactly one step. Used in place of {@link #update()} when the
+   * caller already runs the game at a fixed timestep, e.g. {@link
+   * com.csse3200.game.services.SimulationLoop}.
+   *
+   * @param timeStep step length in seconds
+   */
+  public void step(float timeStep) {
+    world.step(timeStep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+  }
+
   public Body createBody(BodyDef bodyDef) {
     logger.debug("Creating physics body {}", bodyDef);
+    bodiesCreated++;
     return world.createBody(bodyDef);
   }
 
   public void destroyBody(Body body) {
     logger.debug("Destroying physics body {}", body);
+    bodiesDestroyed++;
     world.destroyBody(body);
   }
 
@@ -75,6 +93,49 @@ public class PhysicsEngine implements Disposable {
     world.destroyJoint(joint);
   }
 
+  /**
+   * @return number of bodies in the physics world
+   */
+  public int getBodyCount() {
+    return world.getBodyCount();
+  }
+
+  /**
+   * @return number of bodies created through this engine since it started
+   */
+  public int getBodiesCreated() {
+    return bodiesCreated;
+  }
+
+  /**
+   * @return number of bodies destroyed through this engine since it started
+   */
+  public int getBodiesDestroyed() {
+    return bodiesDestroyed;
+  }
+
+  /**
+   * Count bodies still in the world whose entity has been disposed. These should have been
+   * destroyed along with their entity, so anything other than 0 is a leak.
+   *
+   * @return number of bodies belonging to disposed entities
+   */
+  public int countOrphanedBodies() {
+    world.getBodies(bodies);
+    int count = 0;
+    for (Body body : bodies) {
+      Object userData = body.getUserData();
+      if (userData instanceof BodyUserData) {
+        Entity entity = ((BodyUserData) userData).entity;
+        if (entity != null && entity.isDisposed()) {
+          count++;
+        }
+      }
+    }
+    bodies.clear();
+    return count;
+  }
+
   public World getWorld() {
     return world;
   }
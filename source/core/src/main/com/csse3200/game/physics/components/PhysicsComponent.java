@@ -5,10 +5,12 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsContactListener;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.spatial.SpatialComponent;
 
 /**
  * Lets an entity be controlled by physics. Do not directly modify the position of a physics-enabled
@@ -21,6 +23,7 @@ public class PhysicsComponent extends Component {
   private static final float GROUND_FRICTION = 5f;
   private final PhysicsEngine physics;
   private final Body body;
+  private SpatialComponent spatial;
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -73,7 +76,8 @@ public class PhysicsComponent extends Component {
     userData.entity = entity;
     body.setUserData(userData);
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+    entity.getEvents().addListener(Entity.EVT_POSITION, pos -> body.setTransform(pos, 0f));
+    spatial = entity.getComponent(SpatialComponent.class);
   }
 
   /**
@@ -85,11 +89,20 @@ public class PhysicsComponent extends Component {
     Vector2 bodyPos = body.getPosition();
     // Don't notify position changes due to physics
     entity.setPosition(bodyPos, false);
+    if (spatial != null) {
+      spatial.refresh();
+    }
+  }
+
+  @Override
+  public void reset() {
+    body.setLinearVelocity(0f, 0f);
   }
 
   @Override
   public void dispose() {
     physics.destroyBody(body);
+    super.dispose();
   }
 
   @Override
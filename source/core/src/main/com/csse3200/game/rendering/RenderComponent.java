@@ -11,15 +11,34 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  private boolean created = false;
 
   @Override
   public void create() {
     ServiceLocator.getRenderService().register(this);
+    created = true;
   }
 
   @Override
   public void dispose() {
     ServiceLocator.getRenderService().unregister(this);
+    created = false;
+    super.dispose();
+  }
+
+  /** Disabled render components are removed from the render service, so they are not drawn. */
+  @Override
+  public void setEnabled(boolean enabled) {
+    boolean changed = enabled != this.enabled;
+    super.setEnabled(enabled);
+    if (!created || !changed) {
+      return;
+    }
+    if (enabled) {
+      ServiceLocator.getRenderService().register(this);
+    } else {
+      ServiceLocator.getRenderService().unregister(this);
+    }
   }
 
   @Override
@@ -40,7 +59,7 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getY();
   }
 
   /**
@@ -4,6 +4,9 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
@@ -62,6 +65,51 @@ public class RenderService implements Disposable {
     }
   }
 
+  /**
+   * @return number of registered renderables
+   */
+  public int getRenderableCount() {
+    int count = 0;
+    for (Array<Renderable> layer : renderables) {
+      count += layer.size;
+    }
+    return count;
+  }
+
+  /**
+   * Count registered renderables by class, e.g. for spotting a type which keeps growing.
+   *
+   * @param counts map to add counts to, keyed by simple class name
+   */
+  public void countRenderablesByType(ObjectIntMap<String> counts) {
+    for (Array<Renderable> layer : renderables) {
+      for (Renderable renderable : layer) {
+        counts.getAndIncrement(renderable.getClass().getSimpleName(), 0, 1);
+      }
+    }
+  }
+
+  /**
+   * Count registered renderables whose entity has been disposed. These should have unregistered
+   * when disposed, so anything other than 0 is a leak.
+   *
+   * @return number of renderables belonging to disposed entities
+   */
+  public int countOrphanedRenderables() {
+    int count = 0;
+    for (Array<Renderable> layer : renderables) {
+      for (Renderable renderable : layer) {
+        if (renderable instanceof Component) {
+          Entity entity = ((Component) renderable).getEntity();
+          if (entity != null && entity.isDisposed()) {
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   public void setStage(Stage stage) {
     this.stage = stage;
   }
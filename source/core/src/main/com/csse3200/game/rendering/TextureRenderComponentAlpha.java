@@ -2,7 +2,6 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.services.ServiceLocator;
 
 /** Render a static texture. */
@@ -56,10 +55,9 @@ public class TextureRenderComponentAlpha extends RenderComponent {
 
   @Override
   protected void draw(SpriteBatch batch) {
-    Vector2 position = entity.getPosition();
-    Vector2 scale = entity.getScale();
     batch.setColor(1, 1, 1, alphaValue);
-    batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    batch.draw(
+        texture, entity.getRenderX(), entity.getRenderY(), entity.getScaleX(), entity.getScaleY());
     batch.setColor(1, 1, 1, 1);
   }
 }
@@ -0,0 +1,259 @@
+package com.csse3200.game.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks after a delay in game time, replacing libGDX's Timer for gameplay. Game time is scaled
+ * by {@link GameTime#setTimeScale(float)}, so timers slow down and speed up with the game and stop
+ * while it is paused. Tasks run on the game thread, during {@link #update()}.
+ *
+ * <p>Tasks are kept in a hierarchical timing wheel: a wheel of 256 slots one tick apart, and
+ * coarser wheels for longer delays whose slots are spread into the finer wheels as their time comes
+ * up. Scheduling and cancelling are constant time, and each tick only looks at one slot, so the
+ * cost of a frame doesn't depend on how many timers are pending. Delays are rounded to the nearest
+ * tick, with ticks every {@value #TICK_MS} ms of game time.
+ *
+ * <p>A {@link Task} can be scheduled again once it has run or been cancelled, so components should
+ * create their tasks once and reschedule them rather than allocating a task per delay:
+ *
+ * <pre>
+ * private final GameScheduler.Task spawnTask = new GameScheduler.Task(this::spawn);
+ * ...
+ * ServiceLocator.getScheduler().schedule(spawnTask, 2f);
+ * ...
+ * spawnTask.cancel();
+ * </pre>
+ */
+public class GameScheduler {
+  private static final Logger logger = LoggerFactory.getLogger(GameScheduler.class);
+
+  /** Length of a tick in milliseconds of game time */
+  public static final int TICK_MS = 10;
+
+  private static final float TICK_SECONDS = TICK_MS / 1000f;
+  private static final int LEVEL_0_BITS = 8;
+  private static final int LEVEL_BITS = 6;
+  private static final int LEVEL_0_SLOTS = 1 << LEVEL_0_BITS;
+  private static final int LEVEL_SLOTS = 1 << LEVEL_BITS;
+  private static final int LEVELS = 4;
+
+  /** Longest delay in ticks, about 7 days. Longer delays are shortened to this. */
+  private static final long MAX_DELAY_TICKS = (1L << (LEVEL_0_BITS + 3 * LEVEL_BITS)) - 1;
+
+  /** Head of each slot's circular list of tasks, by level then slot */
+  private final Task[][] wheels = new Task[LEVELS][];
+
+  /** Last tick processed */
+  private long currentTick = 0;
+
+  /** Game time passed since the last tick, in seconds */
+  private float accumulator = 0f;
+
+  private int pendingCount = 0;
+
+  public GameScheduler() {
+    for (int level = 0; level < LEVELS; level++) {
+      Task[] slots = new Task[level == 0 ? LEVEL_0_SLOTS : LEVEL_SLOTS];
+      for (int slot = 0; slot < slots.length; slot++) {
+        slots[slot] = new Task(null);
+        slots[slot].clearLinks();
+      }
+      wheels[level] = slots;
+    }
+  }
+
+  /**
+   * Run a task once, after a delay. If the task is already scheduled, it is moved to the new time.
+   *
+   * @param task task to run
+   * @param delay delay in seconds of game time
+   * @return the task, to cancel it with
+   */
+  public Task schedule(Task task, float delay) {
+    return scheduleRepeating(task, delay, 0f);
+  }
+
+  /**
+   * Run a task repeatedly, first after a delay and then every interval, until cancelled. If the
+   * task is already scheduled, it is moved to the new time.
+   *
+   * @param task task to run
+   * @param delay delay before the first run in seconds of game time
+   * @param interval time between runs in seconds of game time, or 0 to run once
+   * @return the task, to cancel it with
+   */
+  public Task scheduleRepeating(Task task, float delay, float interval) {
+    if (task.isScheduled()) {
+      task.cancel();
+    }
+    task.scheduler = this;
+    task.intervalTicks = interval > 0f ? toTicks(interval) : 0;
+    task.expiry = currentTick + toTicks(delay);
+    insert(task);
+    pendingCount++;
+    return task;
+  }
+
+  /** Advance timers by the time passed since the last frame, running any which are due. */
+  public void update() {
+    advance(ServiceLocator.getTimeSource().getDeltaTime());
+  }
+
+  /**
+   * Advance timers by an amount of game time, running any which are due.
+   *
+   * @param deltaTime game time passed in seconds
+   */
+  public void advance(float deltaTime) {
+    accumulator += deltaTime;
+    while (accumulator >= TICK_SECONDS) {
+      accumulator -= TICK_SECONDS;
+      tick();
+    }
+  }
+
+  /**
+   * @return number of tasks waiting to run
+   */
+  public int getPendingCount() {
+    return pendingCount;
+  }
+
+  /** Cancel every pending task. */
+  public void clear() {
+    for (Task[] slots : wheels) {
+      for (Task head : slots) {
+        while (head.next != head) {
+          head.next.cancel();
+        }
+      }
+    }
+    logger.debug("Cancelled all scheduled tasks");
+  }
+
+  private void tick() {
+    currentTick++;
+    int index = (int) (currentTick & (LEVEL_0_SLOTS - 1));
+    // Each time a wheel comes round, spread the next slot of the coarser wheel into it
+    if (index == 0 && cascade(1) == 0 && cascade(2) == 0) {
+      cascade(3);
+    }
+
+    Task head = wheels[0][index];
+    while (head.next != head) {
+      Task task = head.next;
+      task.unlink();
+      pendingCount--;
+      if (task.intervalTicks > 0) {
+        // Reschedule before running, so the task can cancel itself
+        task.expiry = currentTick + task.intervalTicks;
+        insert(task);
+        pendingCount++;
+      } else {
+        task.scheduler = null;
+      }
+      task.run();
+    }
+  }
+
+  /** Move the tasks in the current slot of a coarser wheel into finer ones. Returns the slot. */
+  private int cascade(int level) {
+    int shift = LEVEL_0_BITS + (level - 1) * LEVEL_BITS;
+    int index = (int) ((currentTick >>> shift) & (LEVEL_SLOTS - 1));
+    Task head = wheels[level][index];
+    while (head.next != head) {
+      Task task = head.next;
+      task.unlink();
+      insert(task);
+    }
+    return index;
+  }
+
+  private void insert(Task task) {
+    long delay = task.expiry - currentTick;
+    if (delay > MAX_DELAY_TICKS) {
+      task.expiry = currentTick + MAX_DELAY_TICKS;
+      delay = MAX_DELAY_TICKS;
+    }
+    Task head;
+    if (delay < LEVEL_0_SLOTS) {
+      head = wheels[0][(int) (task.expiry & (LEVEL_0_SLOTS - 1))];
+    } else {
+      int level = 1;
+      int shift = LEVEL_0_BITS;
+      while (delay >= 1L << (shift + LEVEL_BITS)) {
+        level++;
+        shift += LEVEL_BITS;
+      }
+      head = wheels[level][(int) ((task.expiry >>> shift) & (LEVEL_SLOTS - 1))];
+    }
+    task.linkBefore(head);
+  }
+
+  /** Convert a delay to ticks, rounding to the nearest tick but always at least one */
+  private static long toTicks(float seconds) {
+    return Math.max(1L, Math.round(seconds / TICK_SECONDS));
+  }
+
+  /**
+   * A task which can be scheduled on a {@link GameScheduler}. Tasks are reusable: a task which has
+   * run or been cancelled can be scheduled again. A task can only be scheduled once at a time.
+   */
+  public static class Task {
+    private final Runnable action;
+    private GameScheduler scheduler;
+    private long expiry;
+    private long intervalTicks;
+    private Task previous;
+    private Task next;
+
+    /**
+     * @param action what to do when the task runs
+     */
+    public Task(Runnable action) {
+      this.action = action;
+    }
+
+    /** Called when the task is due. Runs the task's action by default. */
+    public void run() {
+      action.run();
+    }
+
+    /** Stop the task from running. Does nothing if the task is not scheduled. */
+    public void cancel() {
+      if (scheduler == null) {
+        return;
+      }
+      unlink();
+      scheduler.pendingCount--;
+      scheduler = null;
+    }
+
+    /**
+     * @return true if the task is waiting to run
+     */
+    public boolean isScheduled() {
+      return scheduler != null;
+    }
+
+    private void clearLinks() {
+      previous = this;
+      next = this;
+    }
+
+    private void linkBefore(Task head) {
+      previous = head.previous;
+      next = head;
+      head.previous.next = this;
+      head.previous = this;
+    }
+
+    private void unlink() {
+      previous.next = next;
+      next.previous = previous;
+      previous = null;
+      next = null;
+    }
+  }
+}
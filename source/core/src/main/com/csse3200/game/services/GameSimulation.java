@@ -0,0 +1,112 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.components.towers.TowerAttackComponent;
+import com.csse3200.game.concurrency.MainThreadMailbox;
+import com.csse3200.game.entities.ComponentSystem;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.ParallelComponentSystem;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.input.InputService;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.spatial.SpatialService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The services and fixed-step update of a game in progress. Shared by the main game screen and the
+ * headless simulation runner, so that both play the game in exactly the same way.
+ *
+ * <p>Creating a simulation registers the game's services with the {@link ServiceLocator}, and
+ * disposing it disposes them and clears the locator again. Rendering is left to the caller.
+ */
+public class GameSimulation {
+  private static final Logger logger = LoggerFactory.getLogger(GameSimulation.class);
+
+  private final PhysicsEngine physicsEngine;
+  private final SimulationLoop loop;
+
+  /** Create and register the game's services and entity systems. */
+  public GameSimulation() {
+    GameTime gameTime = new GameTime();
+    ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerScheduler(new GameScheduler());
+
+    PhysicsService physicsService = new PhysicsService();
+    ServiceLocator.registerPhysicsService(physicsService);
+    physicsEngine = physicsService.getPhysics();
+
+    ServiceLocator.registerInputService(new InputService());
+    ServiceLocator.registerResourceService(new ResourceService());
+
+    EntityService entityService = new EntityService(true);
+    entityService.addSystem(new ComponentSystem<>(PhysicsMovementComponent.class));
+    entityService.addSystem(new ParallelComponentSystem<>(TowerAttackComponent.class));
+    ServiceLocator.registerEntityService(entityService);
+    ServiceLocator.registerRenderService(new RenderService());
+    ServiceLocator.registerSpatialService(new SpatialService());
+
+    loop = new SimulationLoop(gameTime, entityService.getTransformStore(), this::step);
+    ServiceLocator.registerSimulationLoop(loop);
+  }
+
+  /**
+   * Step the simulation by the time passed since the last frame. Should be called once per
+   * rendered frame, before rendering.
+   *
+   * @return number of steps run
+   */
+  public int update() {
+    // Results from jobs on other threads are applied first, so the frame sees them consistently
+    MainThreadMailbox.drain();
+    return loop.update();
+  }
+
+  /**
+   * Step the simulation by an amount of game time, as a frame would, without reading the frame
+   * time. For running the game faster than real time.
+   *
+   * @param deltaTime game time passed in seconds
+   * @return number of steps run
+   */
+  public int advance(float deltaTime) {
+    MainThreadMailbox.drain();
+    return loop.advance(deltaTime);
+  }
+
+  public PhysicsEngine getPhysicsEngine() {
+    return physicsEngine;
+  }
+
+  public SimulationLoop getLoop() {
+    return loop;
+  }
+
+  /** Dispose the game's services and clear the service locator. */
+  public void dispose() {
+    ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getRenderService().dispose();
+    ServiceLocator.getResourceService().dispose();
+    ServiceLocator.getScheduler().clear();
+
+    int discarded = MainThreadMailbox.clear();
+    if (discarded > 0) {
+      logger.debug("Discarded {} tasks posted to the game thread", discarded);
+    }
+    ServiceLocator.clear();
+  }
+
+  /** Advance the game by one fixed simulation step. */
+  private void step() {
+    physicsEngine.step(SimulationLoop.TIME_STEP);
+    ServiceLocator.getScheduler().update();
+    ServiceLocator.getEntityService().update();
+    EventHandler gameAreaEvents = ServiceLocator.getGameAreaEvents();
+    if (gameAreaEvents != null) {
+      gameAreaEvents.flush();
+    }
+    ServiceLocator.getInputService().clearJustPressed();
+  }
+}
@@ -11,6 +11,9 @@ public class GameTime {
   private final long startTime;
   private float timeScale = 1f;
 
+  /** Length of the simulation step being run, or a negative value outside of a step */
+  private float stepDeltaTime = -1f;
+
   public GameTime() {
     startTime = TimeUtils.millis();
     logger.debug("Setting game start time to {}", startTime);
@@ -27,9 +30,22 @@ public class GameTime {
   }
 
   /**
-   * @return time passed since the last frame in seconds, scaled by time scale.
+   * @return time scale, where normal speed is 1.0
+   */
+  public float getTimeScale() {
+    return timeScale;
+  }
+
+  /**
+   * Get the time to advance the game by. During a {@link SimulationLoop} step, this is the fixed
+   * step length, so everything updated in the step sees the same delta.
+   *
+   * @return time passed since the last frame or step in seconds, scaled by time scale.
    */
   public float getDeltaTime() {
+    if (stepDeltaTime >= 0f) {
+      return stepDeltaTime;
+    }
     return Gdx.graphics.getDeltaTime() * timeScale;
   }
 
@@ -50,4 +66,18 @@ public class GameTime {
   public long getTimeSince(long lastTime) {
     return getTime() - lastTime;
   }
+
+  /**
+   * Start a fixed simulation step. getDeltaTime() returns the step length until endStep().
+   *
+   * @param deltaTime step length in seconds of game time
+   */
+  void beginStep(float deltaTime) {
+    stepDeltaTime = deltaTime;
+  }
+
+  /** End the current simulation step. */
+  void endStep() {
+    stepDeltaTime = -1f;
+  }
 }
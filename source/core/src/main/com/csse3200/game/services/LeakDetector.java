@@ -0,0 +1,124 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.EntityTag;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.RenderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts live entities, physics bodies, renderables and event listeners, and flags any which have
+ * outlived their entity's dispose(). Logging the counts over a long session shows whether memory is
+ * growing from a slow leak or just from more things being alive.
+ *
+ * <p>Call {@link #update()} once per frame to log a summary every {@link #LOG_INTERVAL_MS}, or
+ * {@link #logReport()} for a full breakdown, e.g. from the "leaks" terminal command.
+ */
+public class LeakDetector {
+  public static final long LOG_INTERVAL_MS = 30000;
+  private static final Logger logger = LoggerFactory.getLogger(LeakDetector.class);
+
+  private final ObjectIntMap<String> renderableCounts = new ObjectIntMap<>();
+  private long lastLogTime;
+
+  public LeakDetector() {
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    lastLogTime = timeSource == null ? 0 : timeSource.getTime();
+  }
+
+  /** Log a summary, and any leaks, if it has been long enough since the last one. */
+  public void update() {
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    if (timeSource.getTimeSince(lastLogTime) < LOG_INTERVAL_MS) {
+      return;
+    }
+    lastLogTime = timeSource.getTime();
+    logger.info(getSummary());
+    logLeaks();
+  }
+
+  /** Log the summary, live entities by tag, renderables by type and any leaks. */
+  public void logReport() {
+    logger.info(getSummary());
+
+    EntityService entityService = ServiceLocator.getEntityService();
+    if (entityService != null) {
+      StringBuilder tags = new StringBuilder("Entities by tag:");
+      for (EntityTag tag : EntityTag.values()) {
+        int count = entityService.getEntitiesWithTag(tag).size();
+        tags.append(' ').append(tag).append('=').append(count);
+      }
+      logger.info(tags.toString());
+    }
+
+    RenderService renderService = ServiceLocator.getRenderService();
+    if (renderService != null) {
+      renderableCounts.clear();
+      renderService.countRenderablesByType(renderableCounts);
+      StringBuilder types = new StringBuilder("Renderables by type:");
+      for (ObjectIntMap.Entry<String> entry : renderableCounts) {
+        types.append(' ').append(entry.key).append('=').append(entry.value);
+      }
+      logger.info(types.toString());
+    }
+
+    if (logLeaks() == 0) {
+      logger.info("No leaks found");
+    }
+  }
+
+  /**
+   * @return one line of live counts, e.g. for a periodic log line
+   */
+  public String getSummary() {
+    EntityService entityService = ServiceLocator.getEntityService();
+    RenderService renderService = ServiceLocator.getRenderService();
+    PhysicsEngine physics = getPhysics();
+    EventHandler gameAreaEvents = ServiceLocator.getGameAreaEvents();
+
+    return String.format(
+        "Live: entities=%d listeners=%d bodies=%d (created=%d destroyed=%d) renderables=%d"
+            + " gameAreaListeners=%d",
+        entityService == null ? 0 : entityService.getEntityCount(),
+        entityService == null ? 0 : entityService.getListenerCount(),
+        physics == null ? 0 : physics.getBodyCount(),
+        physics == null ? 0 : physics.getBodiesCreated(),
+        physics == null ? 0 : physics.getBodiesDestroyed(),
+        renderService == null ? 0 : renderService.getRenderableCount(),
+        gameAreaEvents == null ? 0 : gameAreaEvents.getListenerCount());
+  }
+
+  /**
+   * Warn about anything still alive which belongs to a disposed entity.
+   *
+   * @return number of leaks found
+   */
+  public int logLeaks() {
+    EntityService entityService = ServiceLocator.getEntityService();
+    RenderService renderService = ServiceLocator.getRenderService();
+    PhysicsEngine physics = getPhysics();
+
+    int entities = entityService == null ? 0 : entityService.countDisposedEntities();
+    int bodies = physics == null ? 0 : physics.countOrphanedBodies();
+    int renderables = renderService == null ? 0 : renderService.countOrphanedRenderables();
+    if (entities > 0) {
+      logger.warn("{} disposed entities are still registered", entities);
+    }
+    if (bodies > 0) {
+      logger.warn("{} physics bodies outlived their disposed entity", bodies);
+    }
+    if (renderables > 0) {
+      logger.warn("{} renderables outlived their disposed entity", renderables);
+    }
+    return entities + bodies + renderables;
+  }
+
+  private static PhysicsEngine getPhysics() {
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    return physicsService == null ? null : physicsService.getPhysics();
+  }
+}
@@ -5,6 +5,7 @@ import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.spatial.SpatialService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,9 @@ public class ServiceLocator {
   private static InputService inputService;
   private static ResourceService resourceService;
   private static EventHandler gameAreaEvents;
+  private static SpatialService spatialService;
+  private static GameScheduler scheduler;
+  private static SimulationLoop simulationLoop;
 
   public static EntityService getEntityService() {
     return entityService;
@@ -50,6 +54,18 @@ public class ServiceLocator {
     return resourceService;
   }
 
+  public static SpatialService getSpatialService() {
+    return spatialService;
+  }
+
+  public static GameScheduler getScheduler() {
+    return scheduler;
+  }
+
+  public static SimulationLoop getSimulationLoop() {
+    return simulationLoop;
+  }
+
   public static void registerGameAreaEvents(EventHandler events) {
     gameAreaEvents = events;
   }
@@ -88,6 +104,21 @@ public class ServiceLocator {
     resourceService = source;
   }
 
+  public static void registerSpatialService(SpatialService service) {
+    logger.debug("Registering spatial service {}", service);
+    spatialService = service;
+  }
+
+  public static void registerScheduler(GameScheduler service) {
+    logger.debug("Registering scheduler {}", service);
+    scheduler = service;
+  }
+
+  public static void registerSimulationLoop(SimulationLoop service) {
+    logger.debug("Registering simulation loop {}", service);
+    simulationLoop = service;
+  }
+
   public static void clear() {
     entityService = null;
     renderService = null;
@@ -95,6 +126,9 @@ public class ServiceLocator {
     timeSource = null;
     inputService = null;
     resourceService = null;
+    spatialService = null;
+    scheduler = null;
+    simulationLoop = null;
   }
 
   private ServiceLocator() {
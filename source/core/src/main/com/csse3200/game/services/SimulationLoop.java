@@ -0,0 +1,219 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.entities.TransformStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the game simulation at a fixed rate, separately from rendering. Each frame, the game time
+ * passed is added to an accumulator, and the simulation is stepped {@value #STEPS_PER_SECOND}
+ * times per second of game time to use it up: not at all on a fast frame, or several times to catch
+ * up after a slow one. Simulation cost therefore depends on game time rather than frame rate, and
+ * everything in a step sees the same delta. See: https://gafferongames.com/post/fix_your_timestep/
+ *
+ * <p>Time left in the accumulator after stepping is handed to the transform store as an
+ * interpolation factor, so entities are drawn between their positions at the last two steps rather
+ * than jumping from step to step.
+ *
+ * <p>Fast-forward is done by setting the time scale with {@link GameTime#setTimeScale(float)}.
+ * This runs more steps per frame rather than longer ones, so a wave plays out the same at 8x as at
+ * 1x. Stepping is limited to a budget of real time per frame (see {@link #setStepBudget(float)}).
+ * When a frame runs out of budget, the simulation is falling behind: the remaining game time is
+ * dropped, so the game runs slower than requested instead of the frame rate collapsing, and a
+ * warning is logged. Game time past the longest frame time simulated after a stall is dropped in
+ * the same way. {@link #getEffectiveSpeed()} gives the speed actually reached.
+ */
+public class SimulationLoop {
+  private static final Logger logger = LoggerFactory.getLogger(SimulationLoop.class);
+
+  /** Simulation steps per second of game time */
+  public static final int STEPS_PER_SECOND = 60;
+
+  /** Length of a simulation step in seconds of game time */
+  public static final float TIME_STEP = 1f / STEPS_PER_SECOND;
+
+  /** Longest real frame time simulated, so a long stall is dropped rather than caught up on */
+  private static final float MAX_FRAME_TIME = 0.25f;
+
+  /** Default real time stepping may take per frame, leaving the rest of a 60 fps frame to render */
+  private static final float DEFAULT_STEP_BUDGET = 0.01f;
+
+  private static final long BEHIND_LOG_INTERVAL_MS = 5000;
+  private static final float SPEED_SMOOTHING = 0.1f;
+  private static final long NANOS_PER_SECOND = 1000000000L;
+
+  private final GameTime timeSource;
+  private final TransformStore transforms;
+  private final Runnable step;
+  private float accumulator = 0f;
+  private long stepCount = 0;
+  private long stepBudgetNanos = (long) (DEFAULT_STEP_BUDGET * NANOS_PER_SECOND);
+
+  /** Game time dropped by the last frame */
+  private float lastDroppedTime = 0f;
+
+  private float effectiveSpeed = 1f;
+  private int framesBehind = 0;
+  private float droppedTime = 0f;
+  private int framesBehindSinceLog = 0;
+  private long lastBehindLogTime = -BEHIND_LOG_INTERVAL_MS;
+
+  /**
+   * @param timeSource game time to step by. Its delta time is the step length during steps.
+   * @param transforms store to save previous positions in and interpolate, or null to not
+   *     interpolate
+   * @param step simulation to run once per step
+   */
+  public SimulationLoop(GameTime timeSource, TransformStore transforms, Runnable step) {
+    this.timeSource = timeSource;
+    this.transforms = transforms;
+    this.step = step;
+  }
+
+  /**
+   * Step the simulation by the time passed since the last frame, scaled by the game's time scale.
+   * Should be called once per rendered frame, before rendering.
+   *
+   * @return number of steps run
+   */
+  public int update() {
+    float rawFrameTime = timeSource.getRawDeltaTime();
+    float frameTime = Math.min(rawFrameTime, MAX_FRAME_TIME);
+    float timeScale = timeSource.getTimeScale();
+    int steps = advance(frameTime * timeScale);
+    if (rawFrameTime > frameTime) {
+      drop((rawFrameTime - frameTime) * timeScale);
+    }
+    if (rawFrameTime > 0f) {
+      float speed = (rawFrameTime * timeScale - lastDroppedTime) / rawFrameTime;
+      effectiveSpeed += (speed - effectiveSpeed) * SPEED_SMOOTHING;
+    }
+    return steps;
+  }
+
+  /**
+   * Step the simulation by an amount of game time, for as long as the step budget allows. At least
+   * one step is run if one is due, however long it takes.
+   *
+   * @param deltaTime game time passed in seconds
+   * @return number of steps run
+   */
+  public int advance(float deltaTime) {
+    accumulator += deltaTime;
+    lastDroppedTime = 0f;
+    long start = TimeUtils.nanoTime();
+    int steps = 0;
+    while (accumulator >= TIME_STEP) {
+      if (steps > 0 && TimeUtils.nanoTime() - start >= stepBudgetNanos) {
+        fallBehind();
+        break;
+      }
+      accumulator -= TIME_STEP;
+      runStep();
+      steps++;
+    }
+    if (transforms != null) {
+      transforms.setInterpolation(accumulator / TIME_STEP);
+    }
+    return steps;
+  }
+
+  /**
+   * Set how much real time stepping may take each frame. Lower budgets keep the frame rate up when
+   * fast-forwarding, at the cost of reaching a lower speed.
+   *
+   * @param seconds real time per frame in seconds
+   */
+  public void setStepBudget(float seconds) {
+    stepBudgetNanos = (long) (seconds * NANOS_PER_SECOND);
+  }
+
+  /**
+   * @return how far the game is between the last step and the next one, from 0 to 1
+   */
+  public float getInterpolation() {
+    return accumulator / TIME_STEP;
+  }
+
+  /**
+   * @return number of steps run since the loop was created
+   */
+  public long getStepCount() {
+    return stepCount;
+  }
+
+  /**
+   * Get the speed the game is actually running at, averaged over recent frames. This matches the
+   * time scale unless the simulation is falling behind.
+   *
+   * @return game time simulated per second of real time
+   */
+  public float getEffectiveSpeed() {
+    return effectiveSpeed;
+  }
+
+  /**
+   * @return true if the last frame dropped game time, by running out of step budget or by taking
+   *     too long
+   */
+  public boolean isFallingBehind() {
+    return lastDroppedTime > 0f;
+  }
+
+  /**
+   * @return number of frames which have dropped game time
+   */
+  public int getFramesBehind() {
+    return framesBehind;
+  }
+
+  /**
+   * @return total game time dropped for running out of step budget or after long frames, in
+   *     seconds
+   */
+  public float getDroppedTime() {
+    return droppedTime;
+  }
+
+  private void runStep() {
+    if (transforms != null) {
+      transforms.savePrevious();
+    }
+    timeSource.beginStep(TIME_STEP);
+    try {
+      step.run();
+    } finally {
+      timeSource.endStep();
+    }
+    stepCount++;
+  }
+
+  /** Drop the whole steps left in the accumulator, keeping the fraction for interpolation. */
+  private void fallBehind() {
+    float remainder = accumulator % TIME_STEP;
+    drop(accumulator - remainder);
+    accumulator = remainder;
+  }
+
+  /** Record game time which will not be simulated, logging a warning now and then. */
+  private void drop(float time) {
+    if (lastDroppedTime == 0f) {
+      framesBehind++;
+      framesBehindSinceLog++;
+    }
+    lastDroppedTime += time;
+    droppedTime += time;
+
+    long now = TimeUtils.millis();
+    if (now - lastBehindLogTime >= BEHIND_LOG_INTERVAL_MS) {
+      logger.warn(
+          "Simulation can't keep up at {}x speed: {} frames behind, {} s dropped in total",
+          timeSource.getTimeScale(),
+          framesBehindSinceLog,
+          String.format("%.2f", droppedTime));
+      framesBehindSinceLog = 0;
+      lastBehindLogTime = now;
+    }
+  }
+}
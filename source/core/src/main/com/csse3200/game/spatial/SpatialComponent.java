@@ -0,0 +1,83 @@
+package com.csse3200.game.spatial;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Adds an entity to the spatial index so it can be found by proximity queries. The index is kept
+ * up to date whenever the entity's position is set. Physics-driven entities are refreshed by their
+ * {@link com.csse3200.game.physics.components.PhysicsComponent} each frame.
+ */
+public class SpatialComponent extends Component {
+  private final SpatialService spatialService;
+  private long cellKey;
+  private boolean indexed;
+  private boolean created;
+
+  /** Create a spatial component using the global spatial service. */
+  public SpatialComponent() {
+    this(ServiceLocator.getSpatialService());
+  }
+
+  /**
+   * Create a spatial component
+   *
+   * @param spatialService spatial service to index the entity in
+   */
+  public SpatialComponent(SpatialService spatialService) {
+    this.spatialService = spatialService;
+  }
+
+  @Override
+  public void create() {
+    spatialService.insert(this);
+    entity.getEvents().addListener(Entity.EVT_POSITION, pos -> refresh());
+    created = true;
+  }
+
+  /**
+   * Move the entity to the cell matching its current position. This should be called after the
+   * entity's position changes without a "setPosition" event, e.g. from physics.
+   */
+  public void refresh() {
+    if (indexed) {
+      spatialService.move(this);
+    }
+  }
+
+  /** Disabled entities are removed from the spatial index, and added back when enabled. */
+  @Override
+  public void setEnabled(boolean enabled) {
+    super.setEnabled(enabled);
+    if (!created) {
+      return;
+    }
+    if (enabled && !indexed) {
+      spatialService.insert(this);
+    } else if (!enabled && indexed) {
+      spatialService.remove(this);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (indexed) {
+      spatialService.remove(this);
+    }
+    created = false;
+    super.dispose();
+  }
+
+  long getCellKey() {
+    return cellKey;
+  }
+
+  void setCellKey(long cellKey) {
+    this.cellKey = cellKey;
+  }
+
+  void setIndexed(boolean indexed) {
+    this.indexed = indexed;
+  }
+}
@@ -0,0 +1,404 @@
+package com.csse3200.game.spatial;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Globally accessible spatial index of entities, implemented as a uniform hash grid. Entities with
+ * a {@link SpatialComponent} are bucketed into square cells by position, so that proximity queries
+ * only visit the cells they overlap rather than every entity in the game.
+ *
+ * <p>Positions are the entity's game position (bottom left corner), the same as {@link
+ * Entity#getPosition()}. Queries write into a caller-provided array, which is cleared first, so
+ * callers can reuse one array every frame.
+ */
+public class SpatialService {
+  private static final Logger logger = LoggerFactory.getLogger(SpatialService.class);
+  private static final float DEFAULT_CELL_SIZE = 2f;
+  private static final int INITIAL_CELL_CAPACITY = 4;
+  /** Tag mask which matches every entity */
+  private static final int ANY_TAG = 0;
+
+  private final float cellSize;
+  private final LongMap<Array<Entity>> cells = new LongMap<>();
+  private int size;
+
+  /** Create a spatial service with the default cell size. */
+  public SpatialService() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * Create a spatial service. Cells should be roughly the size of a typical query radius: smaller
+   * cells mean more cells are visited per query, larger cells mean more entities per cell.
+   *
+   * @param cellSize width and height of each cell in metres
+   */
+  public SpatialService(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * @return width and height of each cell in metres
+   */
+  public float getCellSize() {
+    return cellSize;
+  }
+
+  /**
+   * @return number of entities in the index
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Find all indexed entities within a radius of a point.
+   *
+   * @param x x position of the centre
+   * @param y y position of the centre
+   * @param radius query radius in metres
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found
+   */
+  public int queryRadius(float x, float y, float radius, Array<Entity> out) {
+    return queryRadius(x, y, radius, ANY_TAG, out);
+  }
+
+  /**
+   * Find all indexed entities with a tag within a radius of a point.
+   *
+   * @param x x position of the centre
+   * @param y y position of the centre
+   * @param radius query radius in metres
+   * @param tag only entities with this tag are found
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found
+   */
+  public int queryRadius(float x, float y, float radius, EntityTag tag, Array<Entity> out) {
+    return queryRadius(x, y, radius, tag.mask(), out);
+  }
+
+  private int queryRadius(float x, float y, float radius, int tagMask, Array<Entity> out) {
+    out.clear();
+    float radiusSquared = radius * radius;
+    int minCellX = toCell(x - radius);
+    int maxCellX = toCell(x + radius);
+    int minCellY = toCell(y - radius);
+    int maxCellY = toCell(y + radius);
+
+    for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+        Array<Entity> cell = cells.get(toKey(cellX, cellY));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entity entity = cell.get(i);
+          if (hasTags(entity, tagMask) && distSquared(entity, x, y) <= radiusSquared) {
+            out.add(entity);
+          }
+        }
+      }
+    }
+    return out.size;
+  }
+
+  /**
+   * Find all indexed entities inside an axis-aligned rectangle. Useful for picking entities under a
+   * click.
+   *
+   * @param minX left edge
+   * @param minY bottom edge
+   * @param maxX right edge
+   * @param maxY top edge
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found
+   */
+  public int queryRect(float minX, float minY, float maxX, float maxY, Array<Entity> out) {
+    return queryRect(minX, minY, maxX, maxY, ANY_TAG, out);
+  }
+
+  /**
+   * Find all indexed entities with a tag inside an axis-aligned rectangle.
+   *
+   * @param minX left edge
+   * @param minY bottom edge
+   * @param maxX right edge
+   * @param maxY top edge
+   * @param tag only entities with this tag are found
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found
+   */
+  public int queryRect(
+      float minX, float minY, float maxX, float maxY, EntityTag tag, Array<Entity> out) {
+    return queryRect(minX, minY, maxX, maxY, tag.mask(), out);
+  }
+
+  private int queryRect(
+      float minX, float minY, float maxX, float maxY, int tagMask, Array<Entity> out) {
+    out.clear();
+    int minCellX = toCell(minX);
+    int maxCellX = toCell(maxX);
+    int minCellY = toCell(minY);
+    int maxCellY = toCell(maxY);
+
+    for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+        Array<Entity> cell = cells.get(toKey(cellX, cellY));
+        if (cell == null) {
+          continue;
+        }
+        for (int i = 0; i < cell.size; i++) {
+          Entity entity = cell.get(i);
+          if (!hasTags(entity, tagMask)) {
+            continue;
+          }
+          float entityX = entity.getX();
+          float entityY = entity.getY();
+          if (entityX >= minX && entityX <= maxX && entityY >= minY && entityY <= maxY) {
+            out.add(entity);
+          }
+        }
+      }
+    }
+    return out.size;
+  }
+
+  /**
+   * Find the indexed entity closest to a point.
+   *
+   * @param x x position of the point
+   * @param y y position of the point
+   * @param maxRadius entities further away than this are ignored
+   * @return closest entity, or null if none are within range
+   */
+  public Entity findNearest(float x, float y, float maxRadius) {
+    return findNearest(x, y, maxRadius, ANY_TAG);
+  }
+
+  /**
+   * Find the indexed entity with a tag closest to a point.
+   *
+   * @param x x position of the point
+   * @param y y position of the point
+   * @param maxRadius entities further away than this are ignored
+   * @param tag only entities with this tag are found
+   * @return closest entity, or null if none are within range
+   */
+  public Entity findNearest(float x, float y, float maxRadius, EntityTag tag) {
+    return findNearest(x, y, maxRadius, tag.mask());
+  }
+
+  private Entity findNearest(float x, float y, float maxRadius, int tagMask) {
+    Entity nearest = null;
+    float nearestDistSquared = maxRadius * maxRadius;
+    int centreX = toCell(x);
+    int centreY = toCell(y);
+    int maxRing = MathUtils.ceil(maxRadius / cellSize);
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int cellX = centreX - ring; cellX <= centreX + ring; cellX++) {
+        for (int cellY = centreY - ring; cellY <= centreY + ring; cellY++) {
+          if (!isOnRing(cellX, cellY, centreX, centreY, ring)) {
+            continue;
+          }
+          Array<Entity> cell = cells.get(toKey(cellX, cellY));
+          if (cell == null) {
+            continue;
+          }
+          for (int i = 0; i < cell.size; i++) {
+            Entity entity = cell.get(i);
+            if (!hasTags(entity, tagMask)) {
+              continue;
+            }
+            float distSquared = distSquared(entity, x, y);
+            if (distSquared <= nearestDistSquared) {
+              nearestDistSquared = distSquared;
+              nearest = entity;
+            }
+          }
+        }
+      }
+
+      // Every cell outside this ring is at least ring * cellSize away
+      float searched = ring * cellSize;
+      if (nearest != null && nearestDistSquared <= searched * searched) {
+        break;
+      }
+    }
+    return nearest;
+  }
+
+  /**
+   * Find the k indexed entities closest to a point, ordered from closest to furthest.
+   *
+   * @param x x position of the point
+   * @param y y position of the point
+   * @param k maximum number of entities to find
+   * @param maxRadius entities further away than this are ignored
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found, at most k
+   */
+  public int queryNearest(float x, float y, int k, float maxRadius, Array<Entity> out) {
+    return queryNearest(x, y, k, maxRadius, ANY_TAG, out);
+  }
+
+  /**
+   * Find the k indexed entities with a tag closest to a point, ordered from closest to furthest.
+   *
+   * @param x x position of the point
+   * @param y y position of the point
+   * @param k maximum number of entities to find
+   * @param maxRadius entities further away than this are ignored
+   * @param tag only entities with this tag are found
+   * @param out cleared, then filled with the entities found
+   * @return number of entities found, at most k
+   */
+  public int queryNearest(
+      float x, float y, int k, float maxRadius, EntityTag tag, Array<Entity> out) {
+    return queryNearest(x, y, k, maxRadius, tag.mask(), out);
+  }
+
+  private int queryNearest(
+      float x, float y, int k, float maxRadius, int tagMask, Array<Entity> out) {
+    out.clear();
+    if (k <= 0) {
+      return 0;
+    }
+    float maxDistSquared = maxRadius * maxRadius;
+    int centreX = toCell(x);
+    int centreY = toCell(y);
+    int maxRing = MathUtils.ceil(maxRadius / cellSize);
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int cellX = centreX - ring; cellX <= centreX + ring; cellX++) {
+        for (int cellY = centreY - ring; cellY <= centreY + ring; cellY++) {
+          if (!isOnRing(cellX, cellY, centreX, centreY, ring)) {
+            continue;
+          }
+          Array<Entity> cell = cells.get(toKey(cellX, cellY));
+          if (cell == null) {
+            continue;
+          }
+          for (int i = 0; i < cell.size; i++) {
+            Entity entity = cell.get(i);
+            if (!hasTags(entity, tagMask)) {
+              continue;
+            }
+            float distSquared = distSquared(entity, x, y);
+            if (distSquared <= maxDistSquared) {
+              insertSorted(entity, distSquared, x, y, k, out);
+            }
+          }
+        }
+      }
+
+      // Every cell outside this ring is at least ring * cellSize away
+      if (out.size == k) {
+        float searched = ring * cellSize;
+        if (distSquared(out.peek(), x, y) <= searched * searched) {
+          break;
+        }
+      }
+    }
+    return out.size;
+  }
+
+  /**
+   * Add an entity to the index at its current position.
+   *
+   * @param spatial spatial component of the entity
+   */
+  void insert(SpatialComponent spatial) {
+    Entity entity = spatial.getEntity();
+    long key = toKey(toCell(entity.getX()), toCell(entity.getY()));
+    getCell(key).add(spatial.getEntity());
+    spatial.setCellKey(key);
+    spatial.setIndexed(true);
+    size++;
+  }
+
+  /**
+   * Move an entity to the cell matching its current position. Cheap if it hasn't left its cell.
+   *
+   * @param spatial spatial component of the entity
+   */
+  void move(SpatialComponent spatial) {
+    Entity entity = spatial.getEntity();
+    long key = toKey(toCell(entity.getX()), toCell(entity.getY()));
+    if (key == spatial.getCellKey()) {
+      return;
+    }
+    cells.get(spatial.getCellKey()).removeValue(spatial.getEntity(), true);
+    getCell(key).add(spatial.getEntity());
+    spatial.setCellKey(key);
+  }
+
+  /**
+   * Remove an entity from the index.
+   *
+   * @param spatial spatial component of the entity
+   */
+  void remove(SpatialComponent spatial) {
+    Array<Entity> cell = cells.get(spatial.getCellKey());
+    if (cell != null && cell.removeValue(spatial.getEntity(), true)) {
+      size--;
+    } else {
+      logger.error("Tried to remove {} which is not in the spatial index", spatial.getEntity());
+    }
+    spatial.setIndexed(false);
+  }
+
+  private Array<Entity> getCell(long key) {
+    Array<Entity> cell = cells.get(key);
+    if (cell == null) {
+      // Cells are kept once created, so entities moving back and forth don't cause garbage
+      cell = new Array<>(false, INITIAL_CELL_CAPACITY);
+      cells.put(key, cell);
+    }
+    return cell;
+  }
+
+  private int toCell(float coord) {
+    return MathUtils.floor(coord / cellSize);
+  }
+
+  private static long toKey(int cellX, int cellY) {
+    return ((long) cellX << 32) | (cellY & 0xffffffffL);
+  }
+
+  private static float distSquared(Entity entity, float x, float y) {
+    return Vector2.dst2(entity.getX(), entity.getY(), x, y);
+  }
+
+  private static boolean hasTags(Entity entity, int tagMask) {
+    return tagMask == ANY_TAG || entity.hasAnyTag(tagMask);
+  }
+
+  private static boolean isOnRing(int cellX, int cellY, int centreX, int centreY, int ring) {
+    return Math.abs(cellX - centreX) == ring || Math.abs(cellY - centreY) == ring;
+  }
+
+  /** Insert into a distance-sorted array of at most k entities, dropping the furthest. */
+  private static void insertSorted(
+      Entity entity, float distSquared, float x, float y, int k, Array<Entity> out) {
+    if (out.size == k) {
+      if (distSquared(out.peek(), x, y) <= distSquared) {
+        return;
+      }
+      out.pop();
+    }
+    int index = out.size;
+    while (index > 0 && distSquared(out.get(index - 1), x, y) > distSquared) {
+      index--;
+    }
+    out.insert(index, entity);
+  }
+}
@@ -47,10 +47,12 @@ public class TowerActionsUI extends UIComponent {
     addActors();
 
     // Listen for tower clicks
-    ServiceLocator.getGameAreaEvents()
-        .addListener("towerClicked", (EventListener1<Entity>) this::showTowerActions);
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents()
+            .addListener("towerClicked", (EventListener1<Entity>) this::showTowerActions));
 
-    ServiceLocator.getGameAreaEvents().addListener("deselectTower", this::hideTowerActions);
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents().addListener("deselectTower", this::hideTowerActions));
   }
 
   private void hideTowerActions() {
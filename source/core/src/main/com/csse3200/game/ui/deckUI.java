@@ -28,7 +28,8 @@ public class deckUI extends UIComponent {
     addActors();
 
     // Listen for gold changes to update button states
-    ServiceLocator.getGameAreaEvents().addListener("updateGold", this::updateButtonStates);
+    releaseOnDispose(
+        ServiceLocator.getGameAreaEvents().addListener("updateGold", this::updateButtonStates));
   }
 
   private void addActors() {
@@ -3,6 +3,9 @@ package com.csse3200.game.ui.terminal;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.ui.terminal.commands.Command;
 import com.csse3200.game.ui.terminal.commands.DebugCommand;
+import com.csse3200.game.ui.terminal.commands.EventsCommand;
+import com.csse3200.game.ui.terminal.commands.LeaksCommand;
+import com.csse3200.game.ui.terminal.commands.SpeedCommand;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -28,6 +31,9 @@ public class Terminal extends Component {
     this.commands = commands;
 
     addCommand("debug", new DebugCommand());
+    addCommand("leaks", new LeaksCommand());
+    addCommand("events", new EventsCommand());
+    addCommand("speed", new SpeedCommand());
   }
 
   /**
@@ -0,0 +1,57 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.events.EventProfiler;
+import java.util.ArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A command for profiling events. "events on" and "events off" start and stop recording, "events
+ * reset" clears the counters and "events" logs them.
+ */
+public class EventsCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(EventsCommand.class);
+
+  /**
+   * Toggles event profiling, resets it or logs the results, depending on the argument received.
+   *
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'events' command: {}", args);
+      return false;
+    }
+
+    if (args.isEmpty()) {
+      EventProfiler.logReport();
+      return true;
+    }
+
+    String arg = args.get(0);
+    switch (arg) {
+      case "on":
+        EventProfiler.setEnabled(true);
+        return true;
+      case "off":
+        EventProfiler.setEnabled(false);
+        return true;
+      case "reset":
+        EventProfiler.reset();
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'events' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   *
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() <= 1;
+  }
+}
@@ -0,0 +1,36 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.services.LeakDetector;
+import java.util.ArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** A command for logging live entity, body, renderable and listener counts, and any leaks. */
+public class LeaksCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(LeaksCommand.class);
+
+  /**
+   * Logs a lifecycle report. Takes no arguments.
+   *
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'leaks' command: {}", args);
+      return false;
+    }
+
+    new LeakDetector().logReport();
+    return true;
+  }
+
+  /**
+   * Validates the command arguments.
+   *
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.isEmpty();
+  }
+}
@@ -0,0 +1,65 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SimulationLoop;
+import java.util.ArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A command for fast-forwarding the game. "speed 1", "speed 2", "speed 4" and "speed 8" set the
+ * game speed, and "speed" logs the speed requested and the speed actually reached.
+ */
+public class SpeedCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(SpeedCommand.class);
+  private static final int[] SPEEDS = {1, 2, 4, 8};
+
+  /**
+   * Sets the game speed, or logs it if no argument is received.
+   *
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'speed' command: {}", args);
+      return false;
+    }
+
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    if (args.isEmpty()) {
+      SimulationLoop simulation = ServiceLocator.getSimulationLoop();
+      logger.info(
+          "Speed {}x, running at {}x",
+          timeSource.getTimeScale(),
+          simulation == null
+              ? timeSource.getTimeScale()
+              : String.format("%.1f", simulation.getEffectiveSpeed()));
+      return true;
+    }
+
+    timeSource.setTimeScale(Integer.parseInt(args.get(0)));
+    return true;
+  }
+
+  /**
+   * Validates the command arguments.
+   *
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    if (args.isEmpty()) {
+      return true;
+    }
+    if (args.size() > 1) {
+      return false;
+    }
+    for (int speed : SPEEDS) {
+      if (args.get(0).equals(Integer.toString(speed))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
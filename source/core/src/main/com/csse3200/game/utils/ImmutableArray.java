@@ -0,0 +1,69 @@
+package com.csse3200.game.utils;
+
+import com.badlogic.gdx.utils.Array;
+import java.util.Iterator;
+
+/**
+ * A read-only view over a libGDX Array. The view always reflects the current contents of the
+ * backing array, so it can be kept and queried every frame without copying. Use indexed access
+ * (size() and get()) in hot loops, since iterator() allocates a new iterator on each call.
+ *
+ * @param <T> Class type of the elements
+ */
+public class ImmutableArray<T> implements Iterable<T> {
+  private final Array<T> array;
+
+  /**
+   * Create a read-only view of an array.
+   *
+   * @param array backing array, which may still be modified by its owner
+   */
+  public ImmutableArray(Array<T> array) {
+    this.array = array;
+  }
+
+  /**
+   * @return number of elements in the view
+   */
+  public int size() {
+    return array.size;
+  }
+
+  /**
+   * @return true if the view has no elements
+   */
+  public boolean isEmpty() {
+    return array.size == 0;
+  }
+
+  /**
+   * @param index index of the element, in the range 0 to size() - 1
+   * @return element at the given index
+   */
+  public T get(int index) {
+    return array.get(index);
+  }
+
+  /**
+   * @param value value to find
+   * @param identity true to compare with ==, false to use equals()
+   * @return true if the view contains the value
+   */
+  public boolean contains(T value, boolean identity) {
+    return array.contains(value, identity);
+  }
+
+  /**
+   * Copy the current contents of the view into a new array.
+   *
+   * @return new array which can be modified freely
+   */
+  public Array<T> toArray() {
+    return new Array<>(array);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Array.ArrayIterator<>(array, false);
+  }
+}
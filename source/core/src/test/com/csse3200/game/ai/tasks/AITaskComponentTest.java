@@ -1,5 +1,6 @@
 package com.csse3200.game.ai.tasks;
 
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -67,6 +68,32 @@ class AITaskComponentTest {
     verify(highPriorityTask, times(1)).update();
   }
 
+  @Test
+  void shouldReevaluatePrioritiesByInterval() {
+    AITaskComponent taskComponent = new AITaskComponent(3);
+
+    PriorityTask lowPriorityTask = mock(PriorityTask.class);
+    when(lowPriorityTask.getPriority()).thenReturn(1);
+    taskComponent.addTask(lowPriorityTask);
+
+    PriorityTask highPriorityTask = mock(PriorityTask.class);
+    when(highPriorityTask.getPriority()).thenReturn(2);
+    taskComponent.addTask(highPriorityTask);
+    taskComponent.update();
+    verify(highPriorityTask).start();
+
+    // Re-evaluated within the next 3 frames, while the current task keeps updating every frame
+    when(lowPriorityTask.getPriority()).thenReturn(3);
+    taskComponent.update();
+    taskComponent.update();
+    taskComponent.update();
+
+    verify(lowPriorityTask).start();
+    verify(highPriorityTask).stop();
+    verify(highPriorityTask, atLeast(1)).update();
+    verify(lowPriorityTask, atLeast(1)).update();
+  }
+
   @Test
   void shouldStopTaskOnDispose() {
     AITaskComponent taskComponent = new AITaskComponent();
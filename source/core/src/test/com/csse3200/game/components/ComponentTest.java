@@ -1,9 +1,15 @@
 package com.csse3200.game.components;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventSubscription;
+import com.csse3200.game.events.listeners.EventListener0;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,4 +39,36 @@ class ComponentTest {
     component.triggerEarlyUpdate();
     verify(component, times(0)).earlyUpdate();
   }
+
+  @Test
+  void shouldReleaseSubscriptionsOnDispose() {
+    EventHandler events = new EventHandler();
+    EventListener0 listener = mock(EventListener0.class);
+    SubscribingComponent component = new SubscribingComponent(events, listener);
+    component.create();
+    assertEquals(1, events.getListenerCount());
+
+    component.dispose();
+    assertFalse(component.subscription.isActive());
+    assertEquals(0, events.getListenerCount());
+    events.trigger("event");
+    verify(listener, times(0)).handle();
+  }
+
+  static class SubscribingComponent extends Component {
+    private final EventHandler events;
+    private final EventListener0 listener;
+    EventSubscription subscription;
+
+    SubscribingComponent(EventHandler events, EventListener0 listener) {
+      this.events = events;
+      this.listener = listener;
+    }
+
+    @Override
+    public void create() {
+      subscription = events.addListener("event", listener);
+      releaseOnDispose(subscription);
+    }
+  }
 }
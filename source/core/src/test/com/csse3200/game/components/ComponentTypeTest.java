@@ -29,7 +29,25 @@ class ComponentTypeTest {
     assertNotEquals(type2.getId(), type3.getId());
   }
 
-  static class TestComponent1 extends Component {}
+  @Test
+  void shouldDetectOverriddenUpdates() {
+    assertFalse(ComponentType.getFrom(Component.class).hasUpdate());
+    assertFalse(ComponentType.getFrom(Component.class).hasEarlyUpdate());
+
+    ComponentType type = ComponentType.getFrom(TestComponent1.class);
+    assertTrue(type.hasUpdate());
+    assertFalse(type.hasEarlyUpdate());
+
+    // Inherited overrides count too
+    assertTrue(ComponentType.getFrom(TestComponent2.class).hasUpdate());
+  }
+
+  static class TestComponent1 extends Component {
+    @Override
+    public void update() {
+      // Overridden so the update is detected
+    }
+  }
 
   static class TestComponent2 extends TestComponent1 {}
 }
@@ -1,12 +1,16 @@
 package com.csse3200.game.concurrency;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.csse3200.game.extensions.GameExtension;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -25,6 +29,78 @@ class JobSystemTest {
     assertEquals(10, result);
   }
 
+  @Test
+  void shouldCompleteOnMainThreadWhenDrained() throws InterruptedException {
+    MainThreadMailbox.clear();
+    CompletableFuture<Integer> future = JobSystem.launchOnMainThread(() -> 10);
+
+    // The job finishes on a worker, but the future waits for the game thread to drain the mailbox
+    long deadline = System.currentTimeMillis() + 500;
+    while (MainThreadMailbox.getPendingCount() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(1);
+    }
+    assertFalse(future.isDone());
+
+    Thread[] completedOn = new Thread[1];
+    CompletableFuture<Void> callback =
+        future.thenAccept(result -> completedOn[0] = Thread.currentThread());
+    MainThreadMailbox.drain();
+    assertTrue(callback.isDone());
+    assertEquals(10, future.join());
+    assertEquals(Thread.currentThread(), completedOn[0]);
+  }
+
+  @Test
+  void shouldRunEverySliceOfRange() {
+    int[] visits = new int[1000];
+    JobSystem.parallelFor(
+        visits.length,
+        64,
+        (from, to) -> {
+          for (int i = from; i < to; i++) {
+            visits[i]++;
+          }
+        });
+
+    for (int visit : visits) {
+      assertEquals(1, visit);
+    }
+  }
+
+  @Test
+  void shouldWaitForOtherSlicesWhenCallerSliceThrows() {
+    AtomicInteger finished = new AtomicInteger();
+    // The calling thread runs the last slice
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            JobSystem.parallelFor(
+                256,
+                64,
+                (from, to) -> {
+                  if (to == 256) {
+                    throw new IllegalStateException("Slice failed");
+                  }
+                  try {
+                    Thread.sleep(50);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  finished.incrementAndGet();
+                }));
+
+    assertEquals(3, finished.get());
+  }
+
+  @Test
+  void shouldRunSmallRangeOnCallingThread() {
+    Thread caller = Thread.currentThread();
+    Thread[] ranOn = new Thread[1];
+    JobSystem.parallelFor(10, 64, (from, to) -> ranOn[0] = Thread.currentThread());
+
+    assertEquals(caller, ranOn[0]);
+  }
+
   @Test
   void shouldRunBlockingTask() throws InterruptedException, ExecutionException, TimeoutException {
     CompletableFuture<Integer> future = JobSystem.launchBlocking(() -> 10);
@@ -0,0 +1,85 @@
+package com.csse3200.game.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class MainThreadMailboxTest {
+  @BeforeEach
+  void beforeEach() {
+    MainThreadMailbox.clear();
+  }
+
+  @Test
+  void shouldRunTasksInOrderWhenDrained() {
+    List<Integer> ran = new ArrayList<>();
+    MainThreadMailbox.post(() -> ran.add(1));
+    MainThreadMailbox.post(() -> ran.add(2));
+    assertEquals(0, ran.size());
+    assertEquals(2, MainThreadMailbox.getPendingCount());
+
+    assertEquals(2, MainThreadMailbox.drain());
+    assertEquals(List.of(1, 2), ran);
+    assertEquals(0, MainThreadMailbox.getPendingCount());
+  }
+
+  @Test
+  void shouldLeaveTasksPostedWhileDrainingForNextDrain() {
+    List<Integer> ran = new ArrayList<>();
+    MainThreadMailbox.post(() -> MainThreadMailbox.post(() -> ran.add(2)));
+
+    assertEquals(1, MainThreadMailbox.drain());
+    assertEquals(0, ran.size());
+    assertEquals(1, MainThreadMailbox.drain());
+    assertEquals(List.of(2), ran);
+  }
+
+  @Test
+  void shouldContinueAfterFailedTask() {
+    List<Integer> ran = new ArrayList<>();
+    MainThreadMailbox.post(
+        () -> {
+          throw new IllegalStateException("Failed task");
+        });
+    MainThreadMailbox.post(() -> ran.add(1));
+
+    MainThreadMailbox.drain();
+    assertEquals(List.of(1), ran);
+  }
+
+  @Test
+  void shouldTriggerPostedEventsOnDrain() throws InterruptedException {
+    EventHandler events = new EventHandler();
+    EventListener1<String> listener = (EventListener1<String>) mock(EventListener1.class);
+    events.addListener("posted", listener);
+
+    Thread worker = new Thread(() -> MainThreadMailbox.postEvent(events, "posted", "result"));
+    worker.start();
+    worker.join();
+    verifyNoInteractions(listener);
+
+    MainThreadMailbox.drain();
+    verify(listener).handle("result");
+  }
+
+  @Test
+  void shouldClearTasks() {
+    List<Integer> ran = new ArrayList<>();
+    MainThreadMailbox.post(() -> ran.add(1));
+
+    assertEquals(1, MainThreadMailbox.clear());
+    assertEquals(0, MainThreadMailbox.drain());
+    assertEquals(0, ran.size());
+  }
+}
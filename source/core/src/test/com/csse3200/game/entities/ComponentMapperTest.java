@@ -0,0 +1,44 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ComponentMapperTest {
+  @Test
+  void shouldGetComponent() {
+    ComponentMapper<TestComponent1> mapper = ComponentMapper.getFor(TestComponent1.class);
+    TestComponent1 component = new TestComponent1();
+    Entity entity = new Entity().addComponent(new TestComponent2()).addComponent(component);
+
+    assertSame(component, mapper.get(entity));
+    assertSame(entity.getComponent(TestComponent1.class), mapper.get(entity));
+    assertTrue(mapper.has(entity));
+    assertEquals(TestComponent1.class, mapper.getType());
+  }
+
+  @Test
+  void shouldReturnNullForMissingComponent() {
+    // Created before the mapper's type is first seen, so the entity's array is too short
+    Entity entity = new Entity().addComponent(new TestComponent1());
+    ComponentMapper<TestComponent3> mapper = ComponentMapper.getFor(TestComponent3.class);
+
+    assertNull(mapper.get(entity));
+    assertFalse(mapper.has(entity));
+    assertNull(mapper.get(new Entity()));
+  }
+
+  static class TestComponent1 extends Component {}
+
+  static class TestComponent2 extends Component {}
+
+  static class TestComponent3 extends Component {}
+}
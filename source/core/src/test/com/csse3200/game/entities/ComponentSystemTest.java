@@ -0,0 +1,108 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.utils.ImmutableArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ComponentSystemTest {
+  private EntityService entityService;
+  private RecordingSystem system;
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    system = new RecordingSystem();
+  }
+
+  @Test
+  void shouldUpdateComponentsInOnePass() {
+    TestComponent component1 = spy(TestComponent.class);
+    TestComponent component2 = spy(TestComponent.class);
+    OtherComponent other = spy(OtherComponent.class);
+    entityService.register(new Entity().addComponent(component1).addComponent(other));
+    entityService.addSystem(system);
+    entityService.register(new Entity().addComponent(component2));
+
+    entityService.update();
+    assertEquals(2, system.updated.size);
+    assertEquals(1, system.passes);
+    // Updated by the system only, not also by the entity
+    verify(component1, times(1)).earlyUpdate();
+    verify(component1, times(1)).update();
+    verify(component2, times(1)).update();
+    verify(other).update();
+  }
+
+  @Test
+  void shouldRemoveComponentsOfUnregisteredEntities() {
+    Entity[] entities = new Entity[3];
+    for (int i = 0; i < entities.length; i++) {
+      entities[i] = new Entity().addComponent(new TestComponent());
+    }
+    entityService.addSystem(system);
+    for (Entity entity : entities) {
+      entityService.register(entity);
+    }
+
+    entityService.unregister(entities[0]);
+    entityService.update();
+    assertEquals(2, system.updated.size);
+    assertEquals(entities[2], system.updated.get(0).getEntity());
+    assertEquals(entities[1], system.updated.get(1).getEntity());
+  }
+
+  @Test
+  void shouldSkipDisabledEntities() {
+    TestComponent component = spy(TestComponent.class);
+    Entity entity = new Entity().addComponent(component);
+    entityService.addSystem(new ComponentSystem<>(TestComponent.class));
+    entityService.register(entity);
+
+    entity.setEnabled(false);
+    entityService.update();
+    verify(component, times(0)).update();
+
+    entity.setEnabled(true);
+    entityService.update();
+    verify(component).earlyUpdate();
+    verify(component).update();
+  }
+
+  static class TestComponent extends Component {}
+
+  static class OtherComponent extends Component {
+    @Override
+    public void update() {
+      // Overridden so the entity calls it
+    }
+  }
+
+  static class RecordingSystem extends ComponentSystem<TestComponent> {
+    private final Array<TestComponent> updated = new Array<>();
+    private int passes = 0;
+
+    RecordingSystem() {
+      super(TestComponent.class);
+    }
+
+    @Override
+    protected void update(ImmutableArray<TestComponent> components) {
+      passes++;
+      updated.clear();
+      for (TestComponent component : components) {
+        updated.add(component);
+      }
+      super.update(components);
+    }
+  }
+}
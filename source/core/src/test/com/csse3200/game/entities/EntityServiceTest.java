@@ -1,11 +1,24 @@
 package com.csse3200.game.entities;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.csse3200.game.components.Component;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.utils.ImmutableArray;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -22,7 +35,7 @@ class EntityServiceTest {
   @Test
   void shouldUpdateEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
+    Entity entity = spy(new Entity().addComponent(new TestComponent1()));
     entityService.register(entity);
     entityService.update();
 
@@ -30,10 +43,21 @@ class EntityServiceTest {
     verify(entity).earlyUpdate();
   }
 
+  @Test
+  void shouldNotVisitEntitiesWithoutUpdates() {
+    EntityService entityService = new EntityService();
+    Entity entity = spy(new Entity().addComponent(new TestComponent2()));
+    entityService.register(entity);
+    entityService.update();
+
+    verify(entity, times(0)).earlyUpdate();
+    verify(entity, times(0)).update();
+  }
+
   @Test
   void shouldNotUpdateUnregisteredEntities() {
     EntityService entityService = new EntityService();
-    Entity entity = spy(Entity.class);
+    Entity entity = spy(new Entity().addComponent(new TestComponent1()));
     entityService.register(entity);
     entityService.unregister(entity);
     entityService.update();
@@ -49,4 +73,347 @@ class EntityServiceTest {
     entityService.dispose();
     verify(entity).dispose();
   }
+
+  @Test
+  void shouldIndexEntitiesByComponent() {
+    EntityService entityService = new EntityService();
+    Entity entity1 = new Entity().addComponent(new TestComponent1());
+    Entity entity2 =
+        new Entity().addComponent(new TestComponent1()).addComponent(new TestComponent2());
+    entityService.register(entity1);
+    entityService.register(entity2);
+
+    ImmutableArray<Entity> withComponent1 =
+        entityService.getEntitiesWithComponent(TestComponent1.class);
+    ImmutableArray<Entity> withComponent2 =
+        entityService.getEntitiesWithComponent(TestComponent2.class);
+    assertEquals(2, withComponent1.size());
+    assertTrue(withComponent1.contains(entity1, true));
+    assertTrue(withComponent1.contains(entity2, true));
+    assertEquals(1, withComponent2.size());
+    assertSame(entity2, withComponent2.get(0));
+  }
+
+  @Test
+  void shouldKeepComponentViewUpToDate() {
+    EntityService entityService = new EntityService();
+    ImmutableArray<Entity> view = entityService.getEntitiesWithComponent(TestComponent1.class);
+    assertTrue(view.isEmpty());
+
+    Entity entity = new Entity().addComponent(new TestComponent1());
+    entityService.register(entity);
+    assertSame(view, entityService.getEntitiesWithComponent(TestComponent1.class));
+    assertEquals(1, view.size());
+
+    entityService.unregister(entity);
+    assertTrue(view.isEmpty());
+    assertEquals(0, entityService.getAllEntitiesWithComponent(TestComponent1.class).size);
+  }
+
+  @Test
+  void shouldUnregisterEntitiesMovedBySwapRemove() {
+    EntityService entityService = new EntityService();
+    Entity[] entities = new Entity[4];
+    for (int i = 0; i < entities.length; i++) {
+      entities[i] = spy(new Entity().addComponent(new TestComponent1()));
+      entityService.register(entities[i]);
+    }
+    ImmutableArray<Entity> view = entityService.getEntitiesWithComponent(TestComponent1.class);
+
+    // Last entity is moved into the first slot, then removed from there
+    entityService.unregister(entities[0]);
+    entityService.unregister(entities[3]);
+    assertEquals(2, view.size());
+    assertTrue(view.contains(entities[1], true));
+    assertTrue(view.contains(entities[2], true));
+
+    // Unregistering twice has no effect
+    entityService.unregister(entities[3]);
+    assertEquals(2, view.size());
+
+    entityService.update();
+    verify(entities[0], times(0)).update();
+    verify(entities[1]).update();
+    verify(entities[2]).update();
+    verify(entities[3], times(0)).update();
+  }
+
+  @Test
+  void shouldListEntitiesByTag() {
+    EntityService entityService = new EntityService();
+    ImmutableArray<Entity> enemies = entityService.getEntitiesWithTag(EntityTag.ENEMY);
+    Entity enemy1 = new Entity().addTag(EntityTag.ENEMY);
+    Entity enemy2 = new Entity().addTag(EntityTag.ENEMY);
+    Entity tower = new Entity().addTag(EntityTag.TOWER);
+    entityService.register(enemy1);
+    entityService.register(tower);
+    entityService.register(enemy2);
+
+    assertTrue(enemy1.hasTag(EntityTag.ENEMY));
+    assertFalse(enemy1.hasTag(EntityTag.TOWER));
+    assertEquals(2, enemies.size());
+    assertSame(tower, entityService.getEntitiesWithTag(EntityTag.TOWER).get(0));
+    assertTrue(entityService.getEntitiesWithTag(EntityTag.UI).isEmpty());
+
+    entityService.unregister(enemy1);
+    assertSame(enemies, entityService.getEntitiesWithTag(EntityTag.ENEMY));
+    assertEquals(1, enemies.size());
+    assertSame(enemy2, enemies.get(0));
+    entityService.unregister(enemy2);
+    assertTrue(enemies.isEmpty());
+  }
+
+  @Test
+  void shouldPackTransformsOfRegisteredEntities() {
+    EntityService entityService = new EntityService(true);
+    TransformStore store = entityService.getTransformStore();
+    Entity entity1 = new Entity();
+    entity1.setPosition(1f, 2f);
+    Entity entity2 = new Entity();
+    entity2.setPosition(3f, 4f);
+    entity2.setScale(5f, 6f);
+    entityService.register(entity1);
+    entityService.register(entity2);
+
+    assertEquals(2, store.size());
+    assertEquals(3f, store.getX(entity2.getTransformSlot()));
+    assertEquals(6f, store.getScaleY(entity2.getTransformSlot()));
+
+    // Last transform is moved into the freed slot
+    entityService.unregister(entity1);
+    assertEquals(1, store.size());
+    assertSame(entity2, store.getOwner(entity2.getTransformSlot()));
+    assertEquals(new Vector2(3f, 4f), entity2.getPosition());
+    assertEquals(new Vector2(5f, 6f), entity2.getScale());
+
+    // Unregistered entities keep their transform, outside of any store
+    assertEquals(-1, entity1.getTransformSlot());
+    assertEquals(new Vector2(1f, 2f), entity1.getPosition());
+    entity1.setPosition(7f, 8f);
+    assertEquals(new Vector2(3f, 4f), entity2.getPosition());
+  }
+
+  @Test
+  void shouldReuseDeactivatedEntity() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    TestComponent1 component = spy(TestComponent1.class);
+    Entity entity = new Entity().addComponent(component);
+    entityService.register(entity);
+
+    entity.deactivate();
+    assertTrue(entity.isDeactivated());
+    assertTrue(entityService.getEntitiesWithComponent(TestComponent1.class).isEmpty());
+    entityService.update();
+    verify(component, times(0)).update();
+
+    entity.reset();
+    verify(component).reset();
+    entityService.register(entity);
+    assertFalse(entity.isDeactivated());
+    verify(component, times(1)).create();
+    assertEquals(1, entityService.getEntitiesWithComponent(TestComponent1.class).size());
+
+    entityService.update();
+    verify(component).update();
+  }
+
+  @Test
+  void shouldDeferStructuralChangesDuringUpdate() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    Entity spawned = new Entity().addComponent(new TestComponent2());
+    Entity disposed = new Entity().addComponent(new TestComponent1());
+    Entity spawner = new Entity();
+    spawner.addComponent(
+        new Component() {
+          @Override
+          public void update() {
+            entityService.register(spawned);
+            disposed.dispose();
+            // Changes are not visible until every entity has updated
+            assertTrue(entityService.getEntitiesWithComponent(TestComponent2.class).isEmpty());
+            assertEquals(1, entityService.getEntitiesWithComponent(TestComponent1.class).size());
+            assertEquals(2, entityService.getCommands().size());
+          }
+        });
+    entityService.register(spawner);
+    entityService.register(disposed);
+
+    entityService.update();
+    assertEquals(0, entityService.getCommands().size());
+    assertEquals(1, entityService.getEntitiesWithComponent(TestComponent2.class).size());
+    assertTrue(entityService.getEntitiesWithComponent(TestComponent1.class).isEmpty());
+  }
+
+  @Test
+  void shouldNotUpdateEntityDisposedDuringUpdate() {
+    EntityService entityService = new EntityService();
+    entityService.addSystem(new ComponentSystem<>(CountingComponent.class));
+    ServiceLocator.registerEntityService(entityService);
+    int[] updates = {0};
+    CountingComponent systemUpdated = new CountingComponent();
+    Entity victim =
+        new Entity()
+            .addComponent(systemUpdated)
+            .addComponent(
+                new Component() {
+                  @Override
+                  public void update() {
+                    updates[0]++;
+                  }
+                });
+    Entity killer = new Entity();
+    killer.addComponent(
+        new Component() {
+          @Override
+          public void update() {
+            victim.dispose();
+            assertFalse(victim.isEnabled());
+            assertFalse(victim.isDisposed());
+          }
+        });
+    // The killer updates first, so the victim would otherwise update later in the same update
+    entityService.register(killer);
+    entityService.register(victim);
+
+    entityService.update();
+    assertEquals(0, updates[0]);
+    assertEquals(0, systemUpdated.updates);
+    assertTrue(victim.isDisposed());
+    assertTrue(systemUpdated.disposed);
+    assertTrue(entityService.getEntitiesWithComponent(CountingComponent.class).isEmpty());
+  }
+
+  @Test
+  void shouldApplyQueuedCommandsInOrder() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    Entity entity = spy(Entity.class);
+    int[] runs = {0};
+    EntityCommandBuffer commands = entityService.getCommands();
+    commands.spawn(entity);
+    commands.disable(entity);
+    commands.run(() -> runs[0]++);
+    commands.dispose(entity);
+
+    entityService.update();
+    verify(entity).create();
+    verify(entity).setEnabled(false);
+    verify(entity).dispose();
+    verify(entity, times(0)).update();
+    assertEquals(1, runs[0]);
+    assertEquals(0, commands.size());
+  }
+
+  @Test
+  void shouldCountDisposedEntitiesUntilUnregistered() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    Entity entity = new Entity();
+    int[] disposedDuringUpdate = {0};
+    Entity disposer =
+        new Entity()
+            .addComponent(
+                new TestComponent1() {
+                  @Override
+                  public void update() {
+                    entity.dispose();
+                    disposedDuringUpdate[0] = entityService.countDisposedEntities();
+                  }
+                });
+    entityService.register(disposer);
+    entityService.register(entity);
+    assertEquals(2, entityService.getEntityCount());
+
+    entityService.update();
+    // Disposing is deferred until the end of the update
+    assertEquals(0, disposedDuringUpdate[0]);
+    assertTrue(entity.isDisposed());
+    assertEquals(0, entityService.countDisposedEntities());
+    assertEquals(1, entityService.getEntityCount());
+  }
+
+  @Test
+  void shouldResolveHandlesUntilUnregistered() {
+    EntityService entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    Entity entity1 = new Entity();
+    Entity entity2 = new Entity();
+    assertEquals(EntityHandle.NONE, entity1.getHandle());
+    assertNull(entityService.resolve(EntityHandle.NONE));
+
+    entityService.register(entity1);
+    long handle1 = entity1.getHandle();
+    assertSame(entity1, entityService.resolve(handle1));
+
+    entity1.dispose();
+    assertNull(entityService.resolve(handle1));
+    assertEquals(EntityHandle.NONE, entity1.getHandle());
+
+    // The freed slot is reused, but the old handle must not resolve to the new entity
+    entityService.register(entity2);
+    long handle2 = entity2.getHandle();
+    assertNotEquals(handle1, handle2);
+    assertNull(entityService.resolve(handle1));
+    assertSame(entity2, entityService.resolve(handle2));
+  }
+
+  @Test
+  void shouldUpdateComponentsByInterval() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    ServiceLocator.registerTimeSource(gameTime);
+    EntityService entityService = new EntityService();
+    IntervalComponent interval = new IntervalComponent(3);
+    IntervalComponent eventOnly = new IntervalComponent(Component.EVENT_ONLY);
+    entityService.register(new Entity().addComponent(interval));
+    entityService.register(new Entity().addComponent(eventOnly));
+
+    for (int i = 0; i < 6; i++) {
+      entityService.update();
+    }
+    // Staggered, so the first update can be on any of the first 3 frames
+    assertEquals(2, interval.deltas.size);
+    assertEquals(0.06f, interval.deltas.get(1), 0.0001f);
+    assertEquals(0, eventOnly.deltas.size);
+  }
+
+  static class TestComponent1 extends Component {
+    @Override
+    public void update() {
+      // Overridden so the entity is updated
+    }
+  }
+
+  static class TestComponent2 extends Component {}
+
+  static class CountingComponent extends Component {
+    private int updates = 0;
+    private boolean disposed = false;
+
+    @Override
+    public void update() {
+      updates++;
+    }
+
+    @Override
+    public void dispose() {
+      super.dispose();
+      disposed = true;
+    }
+  }
+
+  static class IntervalComponent extends Component {
+    private final FloatArray deltas = new FloatArray();
+
+    IntervalComponent(int frames) {
+      setUpdateInterval(frames);
+    }
+
+    @Override
+    public void update() {
+      deltas.add(getUpdateDelta());
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package com.csse3200.game.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -51,6 +53,44 @@ class EntityTest {
     assertEquals(new Vector2(-4f, -9f), entity.getCenterPosition());
   }
 
+  @Test
+  void shouldInterpolateRenderPosition() {
+    Entity entity = new Entity();
+    entity.setPosition(2f, 4f);
+    TransformStore store = new TransformStore();
+    entity.attachTransforms(store);
+    assertEquals(2f, entity.getRenderX());
+    assertEquals(4f, entity.getRenderY());
+
+    store.savePrevious();
+    entity.setPosition(6f, 0f);
+    store.setInterpolation(0.25f);
+    assertEquals(3f, entity.getRenderX());
+    assertEquals(3f, entity.getRenderY());
+
+    store.setInterpolation(1f);
+    assertEquals(6f, entity.getRenderX());
+    assertEquals(0f, entity.getRenderY());
+  }
+
+  @Test
+  void shouldNotInterpolateEntityPlacedAfterAttaching() {
+    Entity entity = new Entity();
+    entity.setPosition(2f, 4f);
+    TransformStore store = new TransformStore();
+    store.setInterpolation(0.25f);
+    entity.attachTransforms(store);
+
+    // Placed before its first step, e.g. spawned and then moved into position
+    entity.setPosition(6f, 0f);
+    assertEquals(6f, entity.getRenderX());
+    assertEquals(0f, entity.getRenderY());
+
+    store.savePrevious();
+    entity.setPosition(10f, 0f);
+    assertEquals(7f, entity.getRenderX());
+  }
+
   @Test
   void shouldUpdateComponents() {
     Entity entity = new Entity();
@@ -172,7 +212,39 @@ class EntityTest {
     verify(component, times(0)).update();
   }
 
-  static class TestComponent1 extends Component {}
+  @Test
+  void shouldOnlyUpdateComponentsWhichOverrideUpdate() {
+    Entity entity = new Entity();
+    TestComponent1 component1 = spy(TestComponent1.class);
+    NoUpdateComponent component2 = spy(NoUpdateComponent.class);
+    entity.addComponent(component1).addComponent(component2);
+    entity.create();
+    assertTrue(entity.hasUpdates());
+
+    entity.earlyUpdate();
+    entity.update();
+    verify(component1).update();
+    verify(component2, times(0)).earlyUpdate();
+    verify(component2, times(0)).update();
+
+    Entity noUpdates = new Entity().addComponent(new NoUpdateComponent());
+    noUpdates.create();
+    assertFalse(noUpdates.hasUpdates());
+  }
+
+  static class TestComponent1 extends Component {
+    @Override
+    public void earlyUpdate() {
+      // Overridden so the entity calls it
+    }
+
+    @Override
+    public void update() {
+      // Overridden so the entity calls it
+    }
+  }
+
+  static class TestComponent2 extends TestComponent1 {}
 
-  static class TestComponent2 extends Component {}
+  static class NoUpdateComponent extends Component {}
 }
@@ -0,0 +1,79 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ParallelUpdate;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ParallelComponentSystemTest {
+  private EntityService entityService;
+
+  @BeforeEach
+  void beforeEach() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0.5f);
+    ServiceLocator.registerTimeSource(gameTime);
+    entityService = new EntityService();
+    entityService.addSystem(new ParallelComponentSystem<>(TimerComponent.class, 8));
+  }
+
+  @Test
+  void shouldComputeThenApplyOnMainThread() {
+    TimerComponent[] timers = new TimerComponent[100];
+    for (int i = 0; i < timers.length; i++) {
+      timers[i] = new TimerComponent();
+      entityService.register(new Entity().addComponent(timers[i]));
+    }
+
+    entityService.update();
+    entityService.update();
+    Thread mainThread = Thread.currentThread();
+    for (TimerComponent timer : timers) {
+      assertEquals(1f, timer.elapsed);
+      assertEquals(2, timer.applied);
+      assertEquals(mainThread, timer.appliedOn);
+    }
+  }
+
+  @Test
+  void shouldSkipDisabledComponents() {
+    TimerComponent timer = new TimerComponent();
+    Entity entity = new Entity().addComponent(timer);
+    entityService.register(entity);
+
+    timer.setEnabled(false);
+    entityService.update();
+    assertEquals(0, timer.applied);
+
+    timer.setEnabled(true);
+    entity.setEnabled(false);
+    entityService.update();
+    assertEquals(0f, timer.elapsed);
+  }
+
+  static class TimerComponent extends Component implements ParallelUpdate {
+    private float elapsed;
+    private int applied;
+    private Thread appliedOn;
+
+    @Override
+    public void computeUpdate(float deltaTime) {
+      elapsed += deltaTime;
+    }
+
+    @Override
+    public void applyUpdate() {
+      applied++;
+      appliedOn = Thread.currentThread();
+    }
+  }
+}
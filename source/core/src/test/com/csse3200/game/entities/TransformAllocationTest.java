@@ -0,0 +1,195 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.enemy.HealthBarComponent;
+import com.csse3200.game.components.tasks.ChaseTask;
+import com.csse3200.game.components.tasks.MovementTask;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.spatial.SpatialComponent;
+import com.csse3200.game.spatial.SpatialService;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.objenesis.ObjenesisStd;
+
+/**
+ * Checks that the per-frame transform paths (position reads, render sorting, spatial queries, enemy
+ * steering and health bar drawing) do not allocate once warmed up. Entities are registered with an
+ * entity service which packs their transforms, as in the game. Uses the JVM's per-thread allocation
+ * counter.
+ */
+@ExtendWith(GameExtension.class)
+class TransformAllocationTest {
+  private static final int WARMUP_FRAMES = 20_000;
+  private static final int FRAMES = 10_000;
+  // Slack for the allocation counter itself. Allocating once per frame would be far above this.
+  private static final long MAX_ALLOCATED_BYTES = 1024;
+
+  private final Vector2 out = new Vector2();
+  private final Vector2 bodyPos = new Vector2();
+  private final Array<Entity> results = new Array<>();
+  private Entity mover;
+  private SpatialComponent moverSpatial;
+  private TextureRenderComponent render1;
+  private TextureRenderComponent render2;
+  private SpatialService spatialService;
+  private PhysicsMovementComponent movement;
+  private MovementTask movementTask;
+  private ChaseTask chaseTask;
+  private HealthBarComponent healthBar;
+  private SpriteBatch batch;
+  private GL20 gl;
+  private float sink;
+
+  @BeforeEach
+  void beforeEach() {
+    EntityService entityService = new EntityService(true);
+    ServiceLocator.registerEntityService(entityService);
+    ServiceLocator.registerRenderService(new RenderService());
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    ServiceLocator.registerTimeSource(new GameTime());
+
+    spatialService = new SpatialService(2f);
+    for (int i = 0; i < 50; i++) {
+      Entity enemy = new Entity().addComponent(new SpatialComponent(spatialService));
+      enemy.setPosition(i % 10, i / 10f);
+      entityService.register(enemy);
+    }
+    moverSpatial = new SpatialComponent(spatialService);
+    mover = new Entity().addComponent(moverSpatial);
+    entityService.register(mover);
+
+    Texture texture = mock(Texture.class);
+    render1 = new TextureRenderComponent(texture);
+    render2 = new TextureRenderComponent(texture);
+    Entity rendered1 = new Entity().addComponent(render1);
+    rendered1.setPosition(1f, 2f);
+    entityService.register(rendered1);
+    Entity rendered2 = new Entity().addComponent(render2);
+    rendered2.setPosition(3f, 4f);
+    entityService.register(rendered2);
+
+    // An enemy walking towards a far away target, so it never arrives or starts chasing. Mocks
+    // allocate on every call, so its health bar draws to stubs which do nothing instead.
+    movement = new PhysicsMovementComponent();
+    healthBar = new HealthBarComponent(0.75f, 0.15f, 0.8f, noOp(ShapeRenderer.class));
+    Entity walker =
+        new Entity()
+            .addComponent(new PhysicsComponent())
+            .addComponent(movement)
+            .addComponent(new CombatStatsComponent(100, 10, 0))
+            .addComponent(healthBar);
+    entityService.register(walker);
+    Entity target = new Entity();
+    target.setPosition(50f, 50f);
+    entityService.register(target);
+    movementTask = new MovementTask(target.getPosition());
+    movementTask.create(() -> walker);
+    movementTask.start();
+    chaseTask = new ChaseTask(target, 10, 5f, 10f);
+    chaseTask.create(() -> walker);
+
+    batch = noOp(SpriteBatch.class);
+    gl = Gdx.gl;
+    Gdx.gl = noOp(GL20.class);
+  }
+
+  @AfterEach
+  void afterEach() {
+    Gdx.gl = gl;
+  }
+
+  @Test
+  void shouldNotAllocateInSteadyStateFrame() {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    for (int i = 0; i < WARMUP_FRAMES; i++) {
+      frame(i);
+    }
+
+    long before = threads.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < FRAMES; i++) {
+      frame(i);
+    }
+    long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertTrue(
+        allocated < MAX_ALLOCATED_BYTES,
+        "Steady-state frames allocated " + allocated + " bytes, sink=" + sink);
+  }
+
+  private void frame(int i) {
+    // Physics moving an entity back and forth across cells
+    bodyPos.set(i % 7, i % 5);
+    mover.setPosition(bodyPos, false);
+    moverSpatial.refresh();
+
+    sink += mover.getX() + mover.getY() + mover.getCenterX() + mover.getCenterY();
+    sink += mover.getScaleX() + mover.getScaleY();
+    sink += mover.getPosition(out).x + mover.getCenterPosition(out).y + mover.getScale(out).x;
+
+    // Render sorting
+    sink += render1.getZIndex() + render1.compareTo(render2);
+
+    // Tower targeting
+    sink += spatialService.queryRadius(4f, 2f, 3f, results);
+    Entity nearest = spatialService.findNearest(4f, 2f, 3f);
+    if (nearest != null) {
+      sink += nearest.getX();
+    }
+
+    // Enemy AI and steering
+    sink += chaseTask.getPriority();
+    movementTask.update();
+    movement.update();
+
+    // Health bar drawing
+    healthBar.render(batch);
+  }
+
+  /**
+   * Create an instance whose methods all do nothing and return default values, without running any
+   * constructor, so that it needs no OpenGL context.
+   */
+  private static <T> T noOp(Class<T> type) {
+    DynamicType.Builder<?> builder =
+        type.isInterface()
+            ? new ByteBuddy().subclass(Object.class).implement(type)
+            : new ByteBuddy().subclass(type);
+    Class<?> stub =
+        builder
+            .method(ElementMatchers.not(ElementMatchers.isDeclaredBy(Object.class)))
+            .intercept(StubMethod.INSTANCE)
+            .make()
+            .load(type.getClassLoader())
+            .getLoaded();
+    return type.cast(new ObjenesisStd().newInstance(stub));
+  }
+}
@@ -1,16 +1,24 @@
 package com.csse3200.game.events;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 import com.csse3200.game.events.listeners.EventListener0;
 import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.events.listeners.EventListener2;
 import com.csse3200.game.events.listeners.EventListener3;
+import com.csse3200.game.events.listeners.FloatEventListener;
+import com.csse3200.game.events.listeners.IntEventListener;
+import com.csse3200.game.events.listeners.ObjIntEventListener;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 
 @ExtendWith(GameExtension.class)
 class EventHandlerTest {
@@ -56,6 +64,208 @@ class EventHandlerTest {
     verifyNoMoreInteractions(listener2);
   }
 
+  @Test
+  void shouldTriggerKeyEvent() {
+    EventKey<Integer> key = EventKey.of("keyEvent");
+    EventKey<Void> noArgKey = EventKey.of("noArgKeyEvent");
+    EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+    EventListener0 noArgListener = mock(EventListener0.class);
+    assertFalse(handler.hasListeners(key));
+    handler.addListener(key, listener);
+    handler.addListener(noArgKey, noArgListener);
+    assertTrue(handler.hasListeners(key));
+
+    handler.trigger(key, 5);
+    handler.trigger(noArgKey);
+    verify(listener).handle(5);
+    verify(noArgListener).handle();
+  }
+
+  @Test
+  void shouldShareListenersBetweenKeyAndName() {
+    EventKey<String> key = EventKey.of("sharedEvent");
+    assertSame(key, EventKey.of("sharedEvent"));
+    EventListener1<String> keyListener = (EventListener1<String>) mock(EventListener1.class);
+    EventListener1<String> nameListener = (EventListener1<String>) mock(EventListener1.class);
+    handler.addListener(key, keyListener);
+    handler.addListener("sharedEvent", nameListener);
+
+    handler.trigger("sharedEvent", "byName");
+    handler.trigger(key, "byKey");
+    verify(keyListener).handle("byName");
+    verify(keyListener).handle("byKey");
+    verify(nameListener).handle("byName");
+    verify(nameListener).handle("byKey");
+  }
+
+  @Test
+  void shouldTriggerPrimitiveEvents() {
+    IntEventKey intKey = IntEventKey.of("intEvent");
+    FloatEventKey floatKey = FloatEventKey.of("floatEvent");
+    ObjIntEventKey<String> objIntKey = ObjIntEventKey.of("objIntEvent");
+    IntEventListener intListener = mock(IntEventListener.class);
+    FloatEventListener floatListener = mock(FloatEventListener.class);
+    ObjIntEventListener<String> objIntListener =
+        (ObjIntEventListener<String>) mock(ObjIntEventListener.class);
+    handler.addListener(intKey, intListener);
+    handler.addListener(floatKey, floatListener);
+    handler.addListener(objIntKey, objIntListener);
+
+    handler.trigger(intKey, 5);
+    handler.trigger(floatKey, 1.5f);
+    handler.trigger(objIntKey, "target", 7);
+    verify(intListener).handle(5);
+    verify(floatListener).handle(1.5f);
+    verify(objIntListener).handle("target", 7);
+  }
+
+  @Test
+  void shouldMixPrimitiveAndBoxedListeners() {
+    IntEventKey key = IntEventKey.of("mixedEvent");
+    IntEventListener intListener = mock(IntEventListener.class);
+    EventListener1<Integer> boxedListener = (EventListener1<Integer>) mock(EventListener1.class);
+    handler.addListener(key, intListener);
+    handler.addListener("mixedEvent", boxedListener);
+
+    handler.trigger(key, 3);
+    handler.trigger("mixedEvent", 4);
+    verify(intListener).handle(3);
+    verify(intListener).handle(4);
+    verify(boxedListener).handle(3);
+    verify(boxedListener).handle(4);
+  }
+
+  @Test
+  void shouldRemoveListener() {
+    EventListener0 removed = mock(EventListener0.class);
+    EventListener0 kept = mock(EventListener0.class);
+    EventSubscription subscription = handler.addListener("event", removed);
+    handler.addListener("event", kept);
+
+    subscription.remove();
+    assertFalse(subscription.isActive());
+    assertEquals(1, handler.getListenerCount());
+    handler.trigger("event");
+    verify(removed, times(0)).handle();
+    verify(kept).handle();
+
+    // Removing again does nothing
+    subscription.remove();
+    assertEquals(1, handler.getListenerCount());
+  }
+
+  @Test
+  void shouldRemoveListenersDuringDispatch() {
+    EventListener0 later = mock(EventListener0.class);
+    EventSubscription laterSubscription = handler.addListener("other", later);
+    EventSubscription[] selfSubscription = new EventSubscription[1];
+    selfSubscription[0] =
+        handler.addListener(
+            "event",
+            () -> {
+              selfSubscription[0].remove();
+              laterSubscription.remove();
+              handler.trigger("other");
+            });
+    EventListener0 sameEvent = mock(EventListener0.class);
+    EventSubscription sameEventSubscription = handler.addListener("event", sameEvent);
+    handler.addListener("event", sameEventSubscription::remove);
+
+    handler.trigger("event");
+    verify(later, times(0)).handle();
+    verify(sameEvent).handle();
+    assertEquals(1, handler.getListenerCount());
+
+    handler.trigger("event");
+    handler.trigger("other");
+    verify(sameEvent).handle();
+    verify(later, times(0)).handle();
+  }
+
+  @Test
+  void shouldDeferQueuedEventsUntilFlush() {
+    IntEventListener listener = mock(IntEventListener.class);
+    IntEventKey key = IntEventKey.of("queuedEvent");
+    handler.setQueued(true);
+    handler.addListener(key, listener);
+
+    handler.trigger(key, 1);
+    handler.trigger(key, 2);
+    verifyNoInteractions(listener);
+    assertEquals(2, handler.getQueuedCount());
+
+    handler.flush();
+    verify(listener).handle(1);
+    verify(listener).handle(2);
+    assertEquals(0, handler.getQueuedCount());
+  }
+
+  @Test
+  void shouldCoalesceQueuedEvents() {
+    EventListener0 first = mock(EventListener0.class);
+    EventListener1<String> coalesced = (EventListener1<String>) mock(EventListener1.class);
+    EventListener0 last = mock(EventListener0.class);
+    handler.setQueued(true);
+    handler.setCoalescing("coalesced");
+    handler.addListener("first", first);
+    handler.addListener("coalesced", coalesced);
+    handler.addListener("last", last);
+
+    handler.trigger("first");
+    handler.trigger("coalesced", "a");
+    handler.trigger("last");
+    handler.trigger("coalesced", "b");
+    assertEquals(3, handler.getQueuedCount());
+
+    handler.flush();
+    InOrder inOrder = inOrder(first, coalesced, last);
+    inOrder.verify(first).handle();
+    inOrder.verify(coalesced).handle("b");
+    inOrder.verify(last).handle();
+    verify(coalesced, times(1)).handle(any());
+
+    // Coalescing starts again after a flush
+    handler.trigger("coalesced", "c");
+    handler.flush();
+    verify(coalesced).handle("c");
+  }
+
+  @Test
+  void shouldFlushEventsTriggeredWhileFlushing() {
+    EventListener0 listener = mock(EventListener0.class);
+    handler.setQueued(true);
+    handler.addListener("outer", () -> handler.trigger("inner"));
+    handler.addListener("inner", listener);
+
+    handler.trigger("outer");
+    handler.flush();
+    verify(listener).handle();
+    assertEquals(0, handler.getQueuedCount());
+  }
+
+  @Test
+  void shouldFlushWhenUnqueued() {
+    EventListener0 listener = mock(EventListener0.class);
+    handler.setQueued(true);
+    handler.addListener("event", listener);
+    handler.trigger("event");
+
+    handler.setQueued(false);
+    verify(listener).handle();
+    assertFalse(handler.isQueued());
+    handler.trigger("event");
+    verify(listener, times(2)).handle();
+  }
+
+  @Test
+  void shouldCountListeners() {
+    assertEquals(0, handler.getListenerCount());
+    handler.addListener("event", mock(EventListener0.class));
+    handler.addListener("event", mock(EventListener0.class));
+    handler.addListener("event2", mock(EventListener1.class));
+    assertEquals(3, handler.getListenerCount());
+  }
+
   @Test
   void shouldHandleNoListeners() {
     handler.trigger("not-real-event");
@@ -0,0 +1,106 @@
+package com.csse3200.game.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.events.listeners.EventListener0;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class EventProfilerTest {
+  EventHandler handler;
+
+  @BeforeEach
+  void beforeEach() {
+    handler = new EventHandler();
+    EventProfiler.reset();
+  }
+
+  @AfterEach
+  void afterEach() {
+    EventProfiler.setEnabled(false);
+    EventProfiler.reset();
+  }
+
+  @Test
+  void shouldNotRecordWhenDisabled() {
+    handler.addListener("profiledEvent", () -> {});
+    handler.trigger("profiledEvent");
+    assertEquals(0, EventProfiler.getDispatchCount("profiledEvent"));
+    assertEquals(0, EventProfiler.getTriggerCount("profiledEvent"));
+  }
+
+  @Test
+  void shouldRecordDispatches() {
+    EventProfiler.setEnabled(true);
+    EventListener0 listener = () -> {};
+    handler.addListener("profiledEvent", listener);
+    handler.addListener("profiledEvent", listener);
+    EventHandler other = new EventHandler();
+    other.addListener("profiledEvent", listener);
+
+    handler.trigger("profiledEvent");
+    handler.trigger("profiledEvent");
+    other.trigger("profiledEvent");
+
+    assertEquals(3, EventProfiler.getTriggerCount("profiledEvent"));
+    assertEquals(3, EventProfiler.getDispatchCount("profiledEvent"));
+    assertEquals(5, EventProfiler.getListenerCallCount("profiledEvent"));
+    assertTrue(EventProfiler.getListenerNanos("profiledEvent") >= 0);
+    assertEquals(0, EventProfiler.getDispatchCount("never-triggered-event"));
+  }
+
+  @Test
+  void shouldRecordEventsWithoutListeners() {
+    EventProfiler.setEnabled(true);
+    handler.trigger("unheardProfiledEvent");
+    handler.trigger("unheardProfiledEvent", 1);
+
+    assertEquals(2, EventProfiler.getTriggerCount("unheardProfiledEvent"));
+    assertEquals(0, EventProfiler.getListenerCallCount("unheardProfiledEvent"));
+    assertTrue(EventProfiler.getReport(5).startsWith("unheardProfiledEvent: 2 triggers"));
+  }
+
+  @Test
+  void shouldRecordQueuedEventsWhenFlushed() {
+    EventProfiler.setEnabled(true);
+    handler.setQueued(true);
+    handler.setCoalescing("profiledEvent");
+    handler.addListener("profiledEvent", () -> {});
+
+    handler.trigger("profiledEvent");
+    handler.trigger("profiledEvent");
+    assertEquals(2, EventProfiler.getTriggerCount("profiledEvent"));
+    assertEquals(0, EventProfiler.getDispatchCount("profiledEvent"));
+    handler.flush();
+    assertEquals(2, EventProfiler.getTriggerCount("profiledEvent"));
+    assertEquals(1, EventProfiler.getDispatchCount("profiledEvent"));
+  }
+
+  @Test
+  void shouldReportMostExpensiveFirst() {
+    EventProfiler.setEnabled(true);
+    handler.addListener("cheapEvent", () -> {});
+    handler.addListener("slowEvent", () -> busyWait(1000000));
+
+    handler.trigger("cheapEvent");
+    handler.trigger("slowEvent");
+
+    String[] lines = EventProfiler.getReport(5).split("\\R");
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].startsWith("slowEvent: 1 triggers, 1 dispatches, 1 listener calls"));
+    assertTrue(lines[1].startsWith("cheapEvent"));
+    assertEquals(1, EventProfiler.getReport(1).split("\\R").length);
+  }
+
+  private static void busyWait(long nanos) {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < nanos) {
+      // Spin
+    }
+  }
+}
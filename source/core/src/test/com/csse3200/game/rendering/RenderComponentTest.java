@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.csse3200.game.entities.Entity;
@@ -36,6 +37,18 @@ class RenderComponentTest {
     verify(service).unregister(component);
   }
 
+  @Test
+  void shouldUnregisterWhileDisabled() {
+    ServiceLocator.registerRenderService(service);
+    RenderComponent component = spy(RenderComponent.class);
+    component.create();
+    component.setEnabled(false);
+    verify(service).unregister(component);
+
+    component.setEnabled(true);
+    verify(service, times(2)).register(component);
+  }
+
   @Test
   void shouldDrawOnRender() {
     RenderComponent component = spy(RenderComponent.class);
@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -7,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -80,4 +82,22 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldCountOrphanedRenderables() {
+    RenderService renderService = new RenderService();
+    RenderComponent live = mock(RenderComponent.class);
+    RenderComponent orphan = mock(RenderComponent.class);
+    Entity liveEntity = mock(Entity.class);
+    Entity disposedEntity = mock(Entity.class);
+    when(disposedEntity.isDisposed()).thenReturn(true);
+    when(live.getEntity()).thenReturn(liveEntity);
+    when(orphan.getEntity()).thenReturn(disposedEntity);
+    renderService.register(live);
+    renderService.register(orphan);
+    renderService.register(mock(Renderable.class));
+
+    assertEquals(3, renderService.getRenderableCount());
+    assertEquals(1, renderService.countOrphanedRenderables());
+  }
 }
@@ -5,7 +5,6 @@ import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -22,8 +21,10 @@ class TextureRenderComponentTest {
 
   @Test
   void shouldDrawTexture() {
-    when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-    when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+    when(entity.getRenderX()).thenReturn(2f);
+    when(entity.getRenderY()).thenReturn(2f);
+    when(entity.getScaleX()).thenReturn(1f);
+    when(entity.getScaleY()).thenReturn(1f);
     TextureRenderComponent component = new TextureRenderComponent(texture);
     component.setEntity(entity);
     component.render(spriteBatch);
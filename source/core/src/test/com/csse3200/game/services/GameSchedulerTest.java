@@ -0,0 +1,178 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class GameSchedulerTest {
+  private static final float TICK = GameScheduler.TICK_MS / 1000f;
+
+  GameScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    scheduler = new GameScheduler();
+  }
+
+  @Test
+  void shouldRunTaskAfterDelay() {
+    int[] runs = {0};
+    GameScheduler.Task task = new GameScheduler.Task(() -> runs[0]++);
+    scheduler.schedule(task, 0.5f);
+    assertTrue(task.isScheduled());
+
+    scheduler.advance(0.49f);
+    assertEquals(0, runs[0]);
+    scheduler.advance(0.02f);
+    assertEquals(1, runs[0]);
+    assertFalse(task.isScheduled());
+    assertEquals(0, scheduler.getPendingCount());
+
+    scheduler.advance(1f);
+    assertEquals(1, runs[0]);
+  }
+
+  @Test
+  void shouldRunLongDelaysOnTime() {
+    // Long enough to start in the coarsest wheel and cascade through the others
+    float[] delays = {3f, 170f, 10000f, 2.5f, 164f};
+    for (float delay : delays) {
+      float[] ranAt = {-1f};
+      float[] elapsed = {0f};
+      GameScheduler.Task task = new GameScheduler.Task(() -> ranAt[0] = elapsed[0]);
+      scheduler.schedule(task, delay);
+      while (ranAt[0] < 0f) {
+        scheduler.advance(0.25f);
+        elapsed[0] += 0.25f;
+      }
+      assertEquals(delay, ranAt[0], 0.26f);
+    }
+  }
+
+  @Test
+  void shouldRunTasksDueOnTheSameTickInOrder() {
+    List<Integer> ran = new ArrayList<>();
+    scheduler.schedule(new GameScheduler.Task(() -> ran.add(1)), 1f);
+    scheduler.schedule(new GameScheduler.Task(() -> ran.add(2)), 1f);
+    scheduler.schedule(new GameScheduler.Task(() -> ran.add(0)), 0.5f);
+
+    scheduler.advance(1f + TICK);
+    assertEquals(List.of(0, 1, 2), ran);
+  }
+
+  @Test
+  void shouldCancelTask() {
+    int[] runs = {0};
+    GameScheduler.Task task = new GameScheduler.Task(() -> runs[0]++);
+    scheduler.schedule(task, 0.1f);
+    task.cancel();
+    assertFalse(task.isScheduled());
+    assertEquals(0, scheduler.getPendingCount());
+
+    scheduler.advance(1f);
+    assertEquals(0, runs[0]);
+
+    // Cancelled tasks can be scheduled again
+    scheduler.schedule(task, 0.1f);
+    scheduler.advance(1f);
+    assertEquals(1, runs[0]);
+  }
+
+  @Test
+  void shouldMoveRescheduledTask() {
+    int[] runs = {0};
+    GameScheduler.Task task = new GameScheduler.Task(() -> runs[0]++);
+    scheduler.schedule(task, 0.1f);
+    scheduler.schedule(task, 2f);
+    assertEquals(1, scheduler.getPendingCount());
+
+    scheduler.advance(1f);
+    assertEquals(0, runs[0]);
+    scheduler.advance(1.1f);
+    assertEquals(1, runs[0]);
+  }
+
+  @Test
+  void shouldRepeatUntilCancelled() {
+    int[] runs = {0};
+    GameScheduler.Task[] task = new GameScheduler.Task[1];
+    task[0] =
+        new GameScheduler.Task(
+            () -> {
+              runs[0]++;
+              if (runs[0] == 3) {
+                task[0].cancel();
+              }
+            });
+    scheduler.scheduleRepeating(task[0], 0.1f, 0.5f);
+
+    scheduler.advance(0.1f + TICK);
+    assertEquals(1, runs[0]);
+    scheduler.advance(0.5f);
+    assertEquals(2, runs[0]);
+    scheduler.advance(10f);
+    assertEquals(3, runs[0]);
+    assertFalse(task[0].isScheduled());
+  }
+
+  @Test
+  void shouldFollowGameTime() {
+    GameTime time = mock(GameTime.class);
+    ServiceLocator.registerTimeSource(time);
+    int[] runs = {0};
+    scheduler.schedule(new GameScheduler.Task(() -> runs[0]++), 0.5f);
+
+    // Paused
+    when(time.getDeltaTime()).thenReturn(0f);
+    for (int i = 0; i < 100; i++) {
+      scheduler.update();
+    }
+    assertEquals(0, runs[0]);
+
+    when(time.getDeltaTime()).thenReturn(0.3f);
+    scheduler.update();
+    assertEquals(0, runs[0]);
+    scheduler.update();
+    assertEquals(1, runs[0]);
+    ServiceLocator.clear();
+  }
+
+  @Test
+  void shouldHandleManyPendingTasks() {
+    int[] runs = {0};
+    GameScheduler.Task[] tasks = new GameScheduler.Task[5000];
+    for (int i = 0; i < tasks.length; i++) {
+      tasks[i] = new GameScheduler.Task(() -> runs[0]++);
+      scheduler.schedule(tasks[i], (i % 500) * 0.1f);
+    }
+    for (int i = 0; i < tasks.length; i += 2) {
+      tasks[i].cancel();
+    }
+    assertEquals(2500, scheduler.getPendingCount());
+
+    scheduler.advance(60f);
+    assertEquals(2500, runs[0]);
+    assertEquals(0, scheduler.getPendingCount());
+  }
+
+  @Test
+  void shouldClearTasks() {
+    GameScheduler.Task task = new GameScheduler.Task(() -> {});
+    scheduler.schedule(task, 1000f);
+    scheduler.schedule(new GameScheduler.Task(() -> {}), 0.1f);
+
+    scheduler.clear();
+    assertEquals(0, scheduler.getPendingCount());
+    assertFalse(task.isScheduled());
+  }
+}
@@ -0,0 +1,149 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.utils.FloatArray;
+import com.csse3200.game.entities.TransformStore;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class SimulationLoopTest {
+  private static final float STEP = SimulationLoop.TIME_STEP;
+
+  GameTime gameTime;
+  FloatArray stepDeltas;
+  TransformStore transforms;
+  SimulationLoop loop;
+  Graphics originalGraphics;
+
+  @BeforeEach
+  void beforeEach() {
+    originalGraphics = Gdx.graphics;
+    gameTime = new GameTime();
+    stepDeltas = new FloatArray();
+    transforms = new TransformStore();
+    loop =
+        new SimulationLoop(gameTime, transforms, () -> stepDeltas.add(gameTime.getDeltaTime()));
+    // Plenty of budget, so only tests which ask for it fall behind
+    loop.setStepBudget(10f);
+  }
+
+  @AfterEach
+  void afterEach() {
+    Gdx.graphics = originalGraphics;
+  }
+
+  @Test
+  void shouldNotStepWithoutEnoughTime() {
+    assertEquals(0, loop.advance(STEP * 0.5f));
+    assertEquals(0, stepDeltas.size);
+    assertEquals(1, loop.advance(STEP * 0.6f));
+  }
+
+  @Test
+  void shouldStepAtFixedRateWithFixedDelta() {
+    // A fast frame rate and a slow one should run the same number of steps for the same game time
+    int fastSteps = 0;
+    for (int i = 0; i < 144; i++) {
+      fastSteps += loop.advance(1f / 144);
+    }
+    SimulationLoop slowLoop = new SimulationLoop(gameTime, null, () -> {});
+    int slowSteps = 0;
+    for (int i = 0; i < 30; i++) {
+      slowSteps += slowLoop.advance(1f / 30);
+    }
+
+    assertEquals(SimulationLoop.STEPS_PER_SECOND, fastSteps, 1f);
+    assertEquals(SimulationLoop.STEPS_PER_SECOND, slowSteps, 1f);
+    for (int i = 0; i < stepDeltas.size; i++) {
+      assertEquals(STEP, stepDeltas.get(i));
+    }
+  }
+
+  @Test
+  void shouldLimitStepsAfterLongFrame() {
+    setFrameTime(10f);
+
+    int steps = loop.update();
+    assertEquals(15, steps, 1f);
+    assertEquals(steps, loop.getStepCount());
+
+    // The rest of the stall is dropped, and counted against the speed reached
+    assertTrue(loop.isFallingBehind());
+    assertEquals(1, loop.getFramesBehind());
+    assertEquals(9.75f, loop.getDroppedTime(), 0.001f);
+    assertEquals(1f + (0.025f - 1f) * 0.1f, loop.getEffectiveSpeed(), 0.001f);
+  }
+
+  @Test
+  void shouldFastForwardWithMoreSteps() {
+    setFrameTime(1f / 60);
+    gameTime.setTimeScale(4f);
+
+    int steps = 0;
+    for (int i = 0; i < 60; i++) {
+      steps += loop.update();
+    }
+
+    assertEquals(4 * SimulationLoop.STEPS_PER_SECOND, steps, 1f);
+    for (int i = 0; i < stepDeltas.size; i++) {
+      assertEquals(STEP, stepDeltas.get(i));
+    }
+    assertFalse(loop.isFallingBehind());
+    assertEquals(4f, loop.getEffectiveSpeed(), 0.1f);
+  }
+
+  @Test
+  void shouldDropTimeWhenOverBudget() {
+    loop.setStepBudget(0f);
+
+    // Always runs one step, then runs out of budget
+    assertEquals(1, loop.advance(STEP * 4.5f));
+    assertTrue(loop.isFallingBehind());
+    assertEquals(1, loop.getFramesBehind());
+    assertEquals(STEP * 3f, loop.getDroppedTime(), 0.0001f);
+    assertEquals(0.5f, loop.getInterpolation(), 0.001f);
+
+    assertEquals(1, loop.advance(STEP));
+    assertFalse(loop.isFallingBehind());
+    assertEquals(1, loop.getFramesBehind());
+  }
+
+  @Test
+  void shouldReportEffectiveSpeedWhenFallingBehind() {
+    setFrameTime(1f / 60);
+    gameTime.setTimeScale(8f);
+    loop.setStepBudget(0f);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1, loop.update());
+    }
+    assertEquals(1f, loop.getEffectiveSpeed(), 0.1f);
+  }
+
+  @Test
+  void shouldSetInterpolation() {
+    loop.advance(STEP * 1.25f);
+    assertEquals(0.25f, transforms.getInterpolation(), 0.001f);
+    assertEquals(0.25f, loop.getInterpolation(), 0.001f);
+
+    loop.advance(STEP * 0.5f);
+    assertEquals(0.75f, transforms.getInterpolation(), 0.001f);
+  }
+
+  /** Make every frame take the same real time, until the test ends. */
+  private static void setFrameTime(float seconds) {
+    Gdx.graphics = mock(Graphics.class);
+    when(Gdx.graphics.getDeltaTime()).thenReturn(seconds);
+  }
+}
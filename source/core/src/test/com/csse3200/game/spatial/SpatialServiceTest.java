@@ -0,0 +1,136 @@
+package com.csse3200.game.spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.EntityTag;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class SpatialServiceTest {
+  private SpatialService spatialService;
+  private Array<Entity> results;
+
+  @BeforeEach
+  void beforeEach() {
+    spatialService = new SpatialService(2f);
+    results = new Array<>();
+    ServiceLocator.registerEntityService(new EntityService());
+  }
+
+  @Test
+  void shouldQueryRadius() {
+    Entity near = createEntity(1f, 1f);
+    Entity edge = createEntity(4f, 1f);
+    createEntity(10f, 10f);
+    createEntity(-3f, -3f);
+
+    assertEquals(2, spatialService.queryRadius(1f, 1f, 3f, results));
+    assertTrue(results.contains(near, true));
+    assertTrue(results.contains(edge, true));
+  }
+
+  @Test
+  void shouldQueryRect() {
+    Entity inside = createEntity(1f, 1f);
+    Entity negative = createEntity(-1.5f, 0.5f);
+    createEntity(3f, 1f);
+
+    assertEquals(2, spatialService.queryRect(-2f, 0f, 2f, 2f, results));
+    assertTrue(results.contains(inside, true));
+    assertTrue(results.contains(negative, true));
+  }
+
+  @Test
+  void shouldFindNearest() {
+    createEntity(5f, 5f);
+    Entity closest = createEntity(2f, 1f);
+    createEntity(-3f, 0f);
+
+    assertSame(closest, spatialService.findNearest(0f, 0f, 10f));
+    assertNull(spatialService.findNearest(0f, 0f, 1f));
+    assertNull(spatialService.findNearest(50f, 50f, 10f));
+  }
+
+  @Test
+  void shouldFilterByTag() {
+    Entity tower = createEntity(1f, 0f);
+    Entity enemy = createEntity(3f, 0f, EntityTag.ENEMY);
+    createEntity(8f, 0f, EntityTag.ENEMY);
+
+    assertSame(tower, spatialService.findNearest(0f, 0f, 10f));
+    assertSame(enemy, spatialService.findNearest(0f, 0f, 10f, EntityTag.ENEMY));
+    assertNull(spatialService.findNearest(0f, 0f, 2f, EntityTag.ENEMY));
+
+    assertEquals(2, spatialService.queryRadius(0f, 0f, 5f, results));
+    assertEquals(1, spatialService.queryRadius(0f, 0f, 5f, EntityTag.ENEMY, results));
+    assertSame(enemy, results.get(0));
+
+    assertEquals(2, spatialService.queryRect(0f, -1f, 4f, 1f, results));
+    assertEquals(1, spatialService.queryRect(0f, -1f, 4f, 1f, EntityTag.ENEMY, results));
+    assertSame(enemy, results.get(0));
+
+    assertEquals(2, spatialService.queryNearest(0f, 0f, 2, 10f, EntityTag.ENEMY, results));
+    assertSame(enemy, results.get(0));
+    assertEquals(0, spatialService.queryNearest(0f, 0f, 2, 2f, EntityTag.ENEMY, results));
+  }
+
+  @Test
+  void shouldQueryNearestInOrder() {
+    Entity third = createEntity(0f, 5f);
+    Entity first = createEntity(1f, 0f);
+    createEntity(20f, 20f);
+    Entity second = createEntity(-3f, 0f);
+
+    assertEquals(3, spatialService.queryNearest(0f, 0f, 3, 10f, results));
+    assertSame(first, results.get(0));
+    assertSame(second, results.get(1));
+    assertSame(third, results.get(2));
+
+    assertEquals(2, spatialService.queryNearest(0f, 0f, 2, 10f, results));
+    assertSame(first, results.get(0));
+    assertSame(second, results.get(1));
+  }
+
+  @Test
+  void shouldTrackMovement() {
+    Entity entity = createEntity(0f, 0f);
+
+    entity.setPosition(9f, 9f);
+    assertEquals(0, spatialService.queryRadius(0f, 0f, 1f, results));
+    assertEquals(1, spatialService.queryRadius(9f, 9f, 1f, results));
+
+    entity.setPosition(-9f, 9f);
+    assertEquals(0, spatialService.queryRadius(9f, 9f, 1f, results));
+    assertSame(entity, spatialService.findNearest(-9f, 9f, 1f));
+  }
+
+  @Test
+  void shouldRemoveOnDispose() {
+    Entity entity = createEntity(0f, 0f);
+    assertEquals(1, spatialService.size());
+
+    entity.dispose();
+    assertEquals(0, spatialService.size());
+    assertNull(spatialService.findNearest(0f, 0f, 5f));
+  }
+
+  private Entity createEntity(float x, float y, EntityTag... tags) {
+    Entity entity = new Entity().addComponent(new SpatialComponent(spatialService));
+    for (EntityTag tag : tags) {
+      entity.addTag(tag);
+    }
+    entity.setPosition(x, y);
+    entity.create();
+    return entity;
+  }
+}
@@ -0,0 +1,171 @@
+package com.csse3200.game.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.csse3200.game.areas.ForestGameArea;
+import com.csse3200.game.areas.terrain.TerrainFactory;
+import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.player.InventoryComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityTag;
+import com.csse3200.game.entities.factories.EnemyFactory;
+import com.csse3200.game.entities.factories.TowerFactory;
+import com.csse3200.game.entities.factories.TowerFactory.TowerType;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.services.GameSimulation;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SimulationLoop;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plays the forest game area's waves against a fixed tower layout without a window, as fast as the
+ * CPU allows, then reports how the layout did. For balancing waves, a full wave set runs in seconds
+ * rather than minutes. Run with "./gradlew simulate".
+ *
+ * <p>Uses the libGDX headless backend and the same {@link GameSimulation} as the game screen, so
+ * the waves play out as they would in the game. There is no Renderer: OpenGL calls go to {@link
+ * NoOpGL}, so textures and UI are still created but nothing is drawn.
+ */
+public class HeadlessSimulator extends ApplicationAdapter {
+  private static final Logger logger = LoggerFactory.getLogger(HeadlessSimulator.class);
+
+  /** Game time to give up after, in seconds */
+  private static final float MAX_GAME_TIME = 30 * 60f;
+
+  private static final TowerType[] LAYOUT_TYPES = {
+    TowerType.MACHINEGUN,
+    TowerType.MACHINEGUN,
+    TowerType.RAILGUN,
+    TowerType.ROCKET,
+    TowerType.MACHINEGUN,
+    TowerType.RAILGUN
+  };
+
+  /** Tiles to place the layout's towers on, next to the enemy path */
+  private static final GridPoint2[] LAYOUT_TILES = {
+    new GridPoint2(3, 3),
+    new GridPoint2(6, 3),
+    new GridPoint2(8, 4),
+    new GridPoint2(11, 6),
+    new GridPoint2(13, 6),
+    new GridPoint2(15, 3)
+  };
+
+  private GameSimulation simulation;
+  private boolean wavesComplete = false;
+  private int kills = 0;
+  private int goldEarned = 0;
+  private int leaks = 0;
+  private int baseDamage = 0;
+
+  public static void main(String[] arg) {
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    // The simulation runs in create(), so the application never needs to render
+    config.updatesPerSecond = -1;
+    new HeadlessApplication(new HeadlessSimulator(), config);
+  }
+
+  @Override
+  public void create() {
+    Gdx.gl20 = NoOpGL.create();
+    Gdx.gl = Gdx.gl20;
+    try {
+      simulate();
+    } finally {
+      dispose();
+      Gdx.app.exit();
+    }
+  }
+
+  private void simulate() {
+    simulation = new GameSimulation();
+    // UI components still add actors to a stage, which is never drawn
+    ServiceLocator.getRenderService().setStage(new Stage(new ScreenViewport(), new SpriteBatch()));
+
+    ForestGameArea gameArea = new ForestGameArea(new TerrainFactory(new CameraComponent()));
+    gameArea.create();
+    EventHandler events = ServiceLocator.getGameAreaEvents();
+    events.addListener(ForestGameArea.EVT_ALL_WAVES_COMPLETE, () -> wavesComplete = true);
+    events.addListener(
+        EnemyFactory.EVT_ENEMY_KILLED,
+        gold -> {
+          kills++;
+          goldEarned += gold;
+        });
+    events.addListener(
+        EnemyFactory.EVT_ENEMY_REACHED_BASE,
+        damage -> {
+          leaks++;
+          baseDamage += damage;
+        });
+
+    Entity player = ServiceLocator.getEntityService().getEntitiesWithTag(EntityTag.PLAYER).get(0);
+    placeTowers(events, player.getComponent(InventoryComponent.class));
+
+    CombatStatsComponent baseStats = player.getComponent(CombatStatsComponent.class);
+    long maxSteps = (long) (MAX_GAME_TIME * SimulationLoop.STEPS_PER_SECOND);
+    long startTime = TimeUtils.nanoTime();
+    SimulationLoop loop = simulation.getLoop();
+    // One step per frame, as if each frame took exactly one step of game time
+    while (!wavesComplete && baseStats.getHealth() > 0 && loop.getStepCount() < maxSteps) {
+      simulation.advance(SimulationLoop.TIME_STEP);
+    }
+    float realTime = TimeUtils.timeSinceNanos(startTime) / 1000000000f;
+
+    String outcome;
+    if (wavesComplete) {
+      outcome = "all waves cleared";
+    } else if (baseStats.getHealth() <= 0) {
+      outcome = "base destroyed";
+    } else {
+      outcome = "time limit reached";
+    }
+    long steps = loop.getStepCount();
+    logger.info(
+        String.format(
+            "Simulation finished, %s%n"
+                + "Game time: %.1f s, ticks: %d, real time: %.2f s, ticks per second: %.0f%n"
+                + "Kills: %d, leaks: %d (%d damage), base health: %d%n"
+                + "Gold: %d (%d earned)",
+            outcome,
+            steps * SimulationLoop.TIME_STEP,
+            steps,
+            realTime,
+            steps / realTime,
+            kills,
+            leaks,
+            baseDamage,
+            baseStats.getHealth(),
+            player.getComponent(InventoryComponent.class).getGold(),
+            goldEarned));
+
+    gameArea.dispose();
+  }
+
+  /** Place the tower layout through the same events as clicks in build mode, without paying. */
+  private void placeTowers(EventHandler events, InventoryComponent inventory) {
+    for (int i = 0; i < LAYOUT_TILES.length; i++) {
+      inventory.addGold(TowerFactory.getConfig(LAYOUT_TYPES[i]).cost);
+      events.trigger("selectTowerType", LAYOUT_TYPES[i]);
+      events.trigger("towerPlacementClick", LAYOUT_TILES[i]);
+      events.flush();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (simulation != null) {
+      simulation.dispose();
+      simulation = null;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.csse3200.game.desktop;
+
+import com.badlogic.gdx.graphics.GL20;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * An OpenGL implementation which does nothing, for running the game without a window or GL
+ * context. Textures, sprite batches and UI can be created as usual, but nothing is ever drawn.
+ *
+ * <p>Calls return zero or empty values, except that shaders and programs report that they compiled
+ * and linked, so that sprite batches and shape renderers can be created.
+ */
+final class NoOpGL {
+  private NoOpGL() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * @return a new GL20 which ignores every call
+   */
+  static GL20 create() {
+    return (GL20)
+        Proxy.newProxyInstance(
+            GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, NoOpGL::invoke);
+  }
+
+  private static Object invoke(Object proxy, Method method, Object[] args) {
+    String name = method.getName();
+    if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+      int parameter = (int) args[1];
+      boolean status = parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS;
+      ((IntBuffer) args[2]).put(0, status ? 1 : 0);
+      return null;
+    }
+
+    Class<?> type = method.getReturnType();
+    if (type == int.class) {
+      // Shader and program handles of 0 mean creation failed
+      return name.startsWith("glCreate") ? 1 : 0;
+    }
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == float.class) {
+      return 0f;
+    }
+    if (type == String.class) {
+      return "";
+    }
+    return null;
+  }
+}